@@ -0,0 +1,102 @@
+package com.hanmo.flowplan.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.Authentication;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 액세스 토큰 검증 경로 비교 (요청 1건당 필터에서 하는 일)
+ *
+ * - legacy: 예전 방식 - 호출마다 파서를 새로 만들고, validate + getAuthentication 으로 서명 검증을 두 번
+ * - sharedParser: 파서 1개 재사용, 검증 1번 (jwt.verified-cache.max-size=0)
+ * - verifiedCache: 파서 재사용 + 검증된 토큰 캐시 (같은 토큰은 만료 전까지 다이제스트 조회만)
+ *
+ * 인증 주체는 모두 토큰 클레임으로 만듦 (DB 조회 비용은 제외하고 검증 비용만 비교)
+ * 실행: gradle jmh -Pjmh.includes=JwtVerification
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+  // 동시에 쓰이는 서로 다른 토큰 수 (사용자 수)
+  @Param({"1", "1000"})
+  public int distinctTokens;
+
+  private Key key;
+  private String[] tokens;
+  private JwtProvider sharedParser;
+  private JwtProvider verifiedCache;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  @Setup
+  public void setUp() {
+    key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    String secret = Encoders.BASE64.encode(key.getEncoded());
+
+    sharedParser = new JwtProvider(secret, null, null, 300, 10_000, 0, false, 20);
+    verifiedCache = new JwtProvider(secret, null, null, 300, 10_000, 10_000, false, 20);
+
+    tokens = new String[distinctTokens];
+    for (int i = 0; i < distinctTokens; i++) {
+      tokens[i] = accessToken(i + 1);
+    }
+  }
+
+  @Benchmark
+  public Claims legacy() {
+    String token = nextToken();
+    // validate(token)
+    Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    // getAuthentication(token)
+    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+  }
+
+  @Benchmark
+  public Authentication sharedParser() {
+    return sharedParser.getAuthentication(nextToken());
+  }
+
+  @Benchmark
+  public Authentication verifiedCache() {
+    return verifiedCache.getAuthentication(nextToken());
+  }
+
+  private String nextToken() {
+    return tokens[Math.floorMod(cursor.getAndIncrement(), tokens.length)];
+  }
+
+  // JwtProvider.createAccessToken(User) 와 같은 클레임 구성
+  private String accessToken(long userId) {
+    return Jwts.builder()
+        .setSubject("FlowPlan")
+        .claim("googleId", "google-" + userId)
+        .claim("uid", userId)
+        .claim("email", "user" + userId + "@test.com")
+        .claim("role", "USER")
+        .claim("type", "access")
+        .setId(UUID.randomUUID().toString())
+        .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+        .signWith(key, SignatureAlgorithm.HS256)
+        .compact();
+  }
+}
@@ -3,13 +3,20 @@ package com.hanmo.flowplan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class FlowPlanApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(FlowPlanApplication.class, args);
+        SpringApplication application = new SpringApplication(FlowPlanApplication.class);
+        // OSIV 가 켜져 있으면 요청이 끝날 때까지 DB 커넥션을 계속 잡고 있음 (AI 호출 중에도) - 설정 파일에서 덮어쓸 수 있는 기본값
+        application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,62 @@
+package com.hanmo.flowplan.ai.application;
+
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * AI 작업 완료 알림 (SSE) - 작업 id 별 구독자에게 완료 이벤트 한 번을 보내고 연결을 닫습니다.
+ * (이 서버에서 실행된 작업만 알림, 놓친 경우에도 상태 조회 API로 결과 확인 가능)
+ */
+@Slf4j
+@Component
+public class AiJobNotifier {
+
+  static final String COMPLETED_EVENT = "completed";
+
+  private final long timeoutMillis;
+  private final Map<Long, List<SseEmitter>> emittersByJobId = new ConcurrentHashMap<>();
+
+  public AiJobNotifier(@Value("${ai.job.sse-timeout-ms:180000}") long timeoutMillis) {
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public SseEmitter register(Long jobId) {
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    emittersByJobId.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+    Runnable remove = () -> emittersByJobId.computeIfPresent(jobId, (id, emitters) -> {
+      emitters.remove(emitter);
+      return emitters.isEmpty() ? null : emitters;
+    });
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(e -> remove.run());
+    return emitter;
+  }
+
+  // 구독자 목록을 먼저 떼어내므로 같은 작업에 대해 여러 번 호출돼도 이벤트는 한 번만 전송
+  public void complete(Long jobId, AiJobResponse response) {
+    List<SseEmitter> emitters = emittersByJobId.remove(jobId);
+    if (emitters == null) {
+      return;
+    }
+    for (SseEmitter emitter : emitters) {
+      try {
+        emitter.send(SseEmitter.event().name(COMPLETED_EVENT).data(response));
+        emitter.complete();
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Failed to notify AI job {} completion: {}", jobId, e.getMessage());
+        emitter.completeWithError(e);
+      }
+    }
+  }
+}
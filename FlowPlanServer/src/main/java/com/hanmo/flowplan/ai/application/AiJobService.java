@@ -0,0 +1,211 @@
+package com.hanmo.flowplan.ai.application;
+
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
+import com.hanmo.flowplan.ai.domain.AiJob;
+import com.hanmo.flowplan.ai.domain.AiJobRepository;
+import com.hanmo.flowplan.ai.domain.AiJobStatus;
+import com.hanmo.flowplan.ai.domain.AiJobType;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * ⭐️ 비동기 AI 생성 작업 실행기
+ *
+ * - 요청 스레드는 작업 행(QUEUED)만 저장하고 작업 id 를 바로 반환 (LLM 응답을 기다리며 서블릿 스레드를 잡지 않음)
+ * - 크기와 대기열이 모두 제한된 전용 워커 풀에서 실행 - 대기열이 가득 차면 429 (일반 API 트래픽과 분리)
+ * - 사용자별 동시 작업(대기 + 실행) 수 제한 - 초과 시 429 (서버 인스턴스 단위)
+ * - 결과/실패 사유는 ai_jobs 테이블에 저장하고, 구독 중인 SSE 연결에 완료 이벤트 전송
+ * - 작업 행에 실행 인스턴스 id 를 남겨서, 중단된 작업 정리 시 다른 인스턴스에서 실행 중인 작업은 건드리지 않음
+ * - 상태 전이(QUEUED -> RUNNING -> SUCCEEDED/FAILED)는 현재 상태 조건부 UPDATE - 정리 작업이 먼저 실패 처리한 작업은
+ *   워커가 결과를 덮어쓰지 않고 완료 알림도 보내지 않음
+ */
+@Slf4j
+@Service
+public class AiJobService {
+
+  private static final String INTERRUPTED_MESSAGE = "서버 재시작 또는 장애로 작업이 중단되었습니다. 다시 요청해주세요.";
+
+  private final AiJobRepository aiJobRepository;
+  private final AiJobNotifier aiJobNotifier;
+  private final ThreadPoolExecutor executor;
+  private final int perUserLimit;
+  private final String instanceId;
+  private final Duration staleAfter;
+  private final Map<String, Integer> activeJobsByUser = new ConcurrentHashMap<>();
+
+  // 작업 결과 (SPEC: 생성된 프로젝트 id + 마크다운, WBS: 프로젝트 id)
+  public record AiJobResult(Long projectId, String result) {
+  }
+
+  public AiJobService(AiJobRepository aiJobRepository,
+                      AiJobNotifier aiJobNotifier,
+                      @Value("${ai.job.workers:4}") int workers,
+                      @Value("${ai.job.queue-capacity:20}") int queueCapacity,
+                      @Value("${ai.job.per-user-limit:2}") int perUserLimit,
+                      @Value("${ai.job.instance-id:}") String instanceId,
+                      @Value("${ai.job.stale-after-ms:1800000}") long staleAfterMillis) {
+    this.aiJobRepository = aiJobRepository;
+    this.aiJobNotifier = aiJobNotifier;
+    this.perUserLimit = Math.max(1, perUserLimit);
+    // 고정 id(예: 파드 이름)를 주면 재시작 직후 자기 작업을 바로 정리, 없으면 프로세스마다 새 id
+    this.instanceId = StringUtils.hasText(instanceId) ? instanceId : UUID.randomUUID().toString();
+    // AI 응답 대기 시간(재시도 포함) + 대기열에서 기다리는 시간보다 충분히 길어야 함
+    this.staleAfter = Duration.ofMillis(staleAfterMillis);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+        runnable -> {
+          Thread thread = new Thread(runnable, "ai-job-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * 작업을 대기열에 넣고 바로 반환합니다. work 는 워커 스레드에서 실행됩니다. (트랜잭션 밖에서 호출)
+   */
+  public AiJobResponse submit(String googleId, AiJobType type, Long projectId, Supplier<AiJobResult> work) {
+    acquireUserSlot(googleId);
+
+    AiJob job;
+    try {
+      job = aiJobRepository.save(AiJob.queued(type, googleId, projectId, instanceId));
+    } catch (RuntimeException e) {
+      releaseUserSlot(googleId);
+      throw e;
+    }
+
+    Long jobId = job.getId();
+    AiJobResponse queued = AiJobResponse.from(job); // 워커가 상태를 바꾸기 전에 응답을 만들어 둠
+    try {
+      executor.execute(() -> run(jobId, googleId, work));
+    } catch (RejectedExecutionException e) {
+      releaseUserSlot(googleId);
+      aiJobRepository.markFailed(jobId, AiJobStatus.QUEUED, ErrorCode.TOO_MANY_AI_JOBS.getMessage(), LocalDateTime.now());
+      throw new BusinessException(ErrorCode.TOO_MANY_AI_JOBS);
+    }
+    return queued;
+  }
+
+  public AiJobResponse getJob(Long jobId, String googleId) {
+    return AiJobResponse.from(findOwnJob(jobId, googleId));
+  }
+
+  /**
+   * 완료 알림 구독 - 구독 등록 후 상태를 다시 확인해서, 그 사이 끝난 작업도 놓치지 않음
+   */
+  public SseEmitter subscribe(Long jobId, String googleId) {
+    findOwnJob(jobId, googleId);
+    SseEmitter emitter = aiJobNotifier.register(jobId);
+
+    AiJob current = findOwnJob(jobId, googleId);
+    if (current.getStatus().isFinished()) {
+      aiJobNotifier.complete(jobId, AiJobResponse.from(current));
+    }
+    return emitter;
+  }
+
+  // 재시작 전에 이 인스턴스가 맡았던 작업과, 오래 갱신이 없는 작업은 이어서 실행할 수 없으므로 실패로 정리
+  @Transactional
+  @EventListener(ApplicationReadyEvent.class)
+  public void failInterruptedJobs() {
+    LocalDateTime now = LocalDateTime.now();
+    int failed = aiJobRepository.failInterrupted(instanceId, now.minus(staleAfter), INTERRUPTED_MESSAGE, now);
+    if (failed > 0) {
+      log.info("Marked {} interrupted AI jobs as failed (instance={})", failed, instanceId);
+    }
+  }
+
+  // 종료된 인스턴스가 남긴 작업은 다른 인스턴스가 재시작되지 않아도 주기적으로 정리
+  @Transactional
+  @Scheduled(initialDelayString = "${ai.job.stale-check-ms:300000}", fixedDelayString = "${ai.job.stale-check-ms:300000}")
+  public void failStaleJobs() {
+    LocalDateTime now = LocalDateTime.now();
+    int failed = aiJobRepository.failStale(now.minus(staleAfter), INTERRUPTED_MESSAGE, now);
+    if (failed > 0) {
+      log.info("Marked {} stale AI jobs as failed", failed);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private void run(Long jobId, String googleId, Supplier<AiJobResult> work) {
+    int finished;
+    try {
+      // 대기 중에 정리 작업이 실패 처리했으면 실행하지 않음
+      if (aiJobRepository.markRunning(jobId, LocalDateTime.now()) == 0) {
+        log.info("AI job {} is no longer queued, skipping", jobId);
+        return;
+      }
+      AiJobResult outcome = work.get();
+      finished = aiJobRepository.markSucceeded(jobId, outcome.projectId(), outcome.result(), LocalDateTime.now());
+    } catch (RuntimeException e) {
+      log.warn("AI job {} failed: {}", jobId, e.getMessage());
+      // 비즈니스 예외는 사용자용 메시지, 그 외(AI 서버 오류 등)는 내부 메시지를 노출하지 않음
+      String message = (e instanceof BusinessException) ? e.getMessage() : ErrorCode.AI_SERVER_ERROR.getMessage();
+      finished = aiJobRepository.markFailed(jobId, AiJobStatus.RUNNING, AiJob.errorMessageOf(message), LocalDateTime.now());
+    } finally {
+      releaseUserSlot(googleId);
+    }
+
+    // 0건이면 실행 중에 정리 작업이 이미 실패 처리(및 상태 확정)한 작업 - 결과를 버리고 알림도 보내지 않음
+    if (finished == 0) {
+      log.info("AI job {} was already finished elsewhere, discarding the worker result", jobId);
+      return;
+    }
+    aiJobRepository.findById(jobId)
+        .ifPresent(job -> aiJobNotifier.complete(jobId, AiJobResponse.from(job)));
+  }
+
+  private AiJob findOwnJob(Long jobId, String googleId) {
+    return aiJobRepository.findByIdAndRequesterGoogleId(jobId, googleId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.AI_JOB_NOT_FOUND));
+  }
+
+  private void acquireUserSlot(String googleId) {
+    boolean[] acquired = {false};
+    activeJobsByUser.compute(googleId, (id, active) -> {
+      int current = (active != null) ? active : 0;
+      if (current >= perUserLimit) {
+        return active;
+      }
+      acquired[0] = true;
+      return current + 1;
+    });
+    if (!acquired[0]) {
+      throw new BusinessException(ErrorCode.TOO_MANY_AI_JOBS, "진행 중인 AI 생성 작업이 많습니다. 완료 후 다시 시도해주세요.");
+    }
+  }
+
+  private void releaseUserSlot(String googleId) {
+    activeJobsByUser.computeIfPresent(googleId, (id, active) -> (active <= 1) ? null : active - 1);
+  }
+}
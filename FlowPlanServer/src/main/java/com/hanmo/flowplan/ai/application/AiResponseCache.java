@@ -0,0 +1,141 @@
+package com.hanmo.flowplan.ai.application;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ⭐️ AI 응답 캐시 (입력 내용의 SHA-256 해시를 키로 사용)
+ *
+ * 1. 1차: 크기 제한 메모리 캐시 (ai.cache.max-entries, ai.cache.ttl-minutes)
+ * 2. 2차(선택): AiResponseStore 빈이 있으면 gzip 압축한 JSON 을 TTL 과 함께 저장 (ai.cache.store=jdbc)
+ * 3. 캐시 오류는 로그만 남기고 무시 (캐시 때문에 생성이 실패하지 않도록)
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+  static final String CACHE_NAME = "aiResponse";
+  private static final String KEY_VERSION = "v1"; // 요청/응답 형식이 바뀌면 올려서 이전 항목을 무시
+
+  private final Cache<String, Object> memory;
+  private final AiResponseStore store; // 없으면 null
+  private final ObjectMapper objectMapper;
+  private final ObjectMapper canonicalMapper; // 키 계산용 (필드/맵 키 정렬 -> 같은 입력이면 같은 바이트)
+  private final Duration ttl;
+
+  public AiResponseCache(@Value("${ai.cache.max-entries:1000}") long maxEntries,
+                         @Value("${ai.cache.ttl-minutes:1440}") long ttlMinutes,
+                         ObjectProvider<AiResponseStore> store,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+    this.memory = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxEntries)
+        .recordStats()
+        .build();
+    this.store = store.getIfAvailable();
+    this.objectMapper = objectMapper;
+    this.canonicalMapper = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, memory, CACHE_NAME);
+  }
+
+  public String specKey(AiSpecRequestDto specRequestDto) {
+    try {
+      return "spec:" + KEY_VERSION + ":" + sha256(canonicalMapper.writeValueAsBytes(specRequestDto));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public String wbsKey(String markdownContent) {
+    String markdown = (markdownContent != null) ? markdownContent : "";
+    return "wbs:" + KEY_VERSION + ":" + sha256(markdown.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public <T> Optional<T> get(String key, Class<T> type) {
+    Object cached = memory.getIfPresent(key);
+    if (type.isInstance(cached)) {
+      return Optional.of(type.cast(cached));
+    }
+    if (store == null) {
+      return Optional.empty();
+    }
+
+    try {
+      Optional<T> stored = store.find(key).map(payload -> decode(payload, type));
+      stored.ifPresent(value -> memory.put(key, value));
+      return stored;
+    } catch (RuntimeException e) {
+      log.warn("AI response cache lookup failed for {}: {}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  public void put(String key, Object value) {
+    memory.put(key, value);
+    if (store == null) {
+      return;
+    }
+
+    try {
+      store.save(key, encode(value), LocalDateTime.now().plus(ttl));
+    } catch (RuntimeException e) {
+      log.warn("AI response cache store failed for {}: {}", key, e.getMessage());
+    }
+  }
+
+  private byte[] encode(Object value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      objectMapper.writeValue(gzip, value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private <T> T decode(byte[] payload, Class<T> type) {
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+      return objectMapper.readValue(gzip, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String sha256(byte[] input) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(input));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.hanmo.flowplan.ai.application;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * AI 응답 캐시의 2차 저장소 (서버 재시작/다중 서버에서도 재사용) - 압축된 응답 바이트를 키로 보관
+ */
+public interface AiResponseStore {
+
+  // 만료되지 않은 항목만 반환
+  Optional<byte[]> find(String key);
+
+  void save(String key, byte[] payload, LocalDateTime expiresAt);
+}
@@ -4,24 +4,131 @@ import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecResponseDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
 @Service
-@RequiredArgsConstructor
 public class AiService {
 
+  private static final String DEDUPLICATED_METRIC = "ai.requests.deduplicated";
+
   private final AiClient aiClient;
+  private final AiResponseCache aiResponseCache;
+
+  // ⭐️ 같은 입력으로 진행 중인 AI 호출 (캐시 키 -> 결과), 끝나면 제거
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Counter specDeduplicated;
+  private final Counter wbsDeduplicated;
+
+  public AiService(AiClient aiClient, AiResponseCache aiResponseCache, MeterRegistry meterRegistry) {
+    this.aiClient = aiClient;
+    this.aiResponseCache = aiResponseCache;
+    this.specDeduplicated = deduplicatedCounter(meterRegistry, "spec");
+    this.wbsDeduplicated = deduplicatedCounter(meterRegistry, "wbs");
+  }
 
   public AiSpecResponseDto generateMarkdownSpec(AiSpecRequestDto specRequestDto) {
-    // AiClient의 1번 API 호출
-    return aiClient.generateMarkdownSpec(specRequestDto);
+    return generateMarkdownSpec(specRequestDto, false);
+  }
+
+  // ⭐️ 같은 입력이면 캐시된 응답 반환 (bypassCache = true 면 캐시를 읽지 않고 새로 생성해서 덮어씀)
+  public AiSpecResponseDto generateMarkdownSpec(AiSpecRequestDto specRequestDto, boolean bypassCache) {
+    String key = aiResponseCache.specKey(specRequestDto);
+    if (!bypassCache) {
+      Optional<AiSpecResponseDto> cached = aiResponseCache.get(key, AiSpecResponseDto.class);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
+    // AiClient의 1번 API 호출 (같은 입력으로 진행 중인 호출이 있으면 그 결과를 함께 받음)
+    return singleFlight(key, specDeduplicated, () -> {
+      AiSpecResponseDto response = aiClient.generateMarkdownSpec(specRequestDto);
+      if (response != null) {
+        aiResponseCache.put(key, response);
+      }
+      return response;
+    });
   }
 
   public AiWbsResponseDto generateWbsFromMarkdown(String markdownContent) {
+    return generateWbsFromMarkdown(markdownContent, false);
+  }
+
+  public AiWbsResponseDto generateWbsFromMarkdown(String markdownContent, boolean bypassCache) {
+    String key = aiResponseCache.wbsKey(markdownContent);
+    if (!bypassCache) {
+      Optional<AiWbsResponseDto> cached = aiResponseCache.get(key, AiWbsResponseDto.class);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
     // AiClient의 2번 API 호출
-    AiWbsRequestDto wbsRequestDto = new AiWbsRequestDto(markdownContent);
-    return aiClient.generateWbsFromMarkdown(wbsRequestDto);
+    return singleFlight(key, wbsDeduplicated, () -> {
+      AiWbsRequestDto wbsRequestDto = new AiWbsRequestDto(markdownContent);
+      AiWbsResponseDto response = aiClient.generateWbsFromMarkdown(wbsRequestDto);
+      if (response != null) {
+        aiResponseCache.put(key, response);
+      }
+      return response;
+    });
+  }
+
+  /**
+   * ⭐️ 먼저 들어온 요청만 호출 스레드에서 직접 AI 서버를 호출하고,
+   * 그동안 같은 키로 들어온 요청은 그 결과(또는 예외)를 그대로 기다려서 받습니다.
+   * (결과는 완료 전에 캐시에 저장되므로, 완료 직후 들어온 요청은 캐시에서 받음)
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T singleFlight(String key, Counter deduplicated, Supplier<T> call) {
+    CompletableFuture<Object> mine = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+    if (existing != null) {
+      deduplicated.increment();
+      return (T) await(existing);
+    }
+
+    try {
+      T result = call.get();
+      mine.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  // 먼저 호출한 요청과 같은 예외를 그대로 전달 (CompletionException 포장 제거)
+  private static Object await(CompletableFuture<Object> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
   }
 
+  private static Counter deduplicatedCounter(MeterRegistry meterRegistry, String type) {
+    return Counter.builder(DEDUPLICATED_METRIC)
+        .description("진행 중인 같은 AI 호출에 합류해서 생략된 호출 수")
+        .tag("type", type)
+        .register(meterRegistry);
+  }
 }
@@ -0,0 +1,31 @@
+package com.hanmo.flowplan.ai.application.dto;
+
+import com.hanmo.flowplan.ai.domain.AiJob;
+import com.hanmo.flowplan.ai.domain.AiJobStatus;
+import com.hanmo.flowplan.ai.domain.AiJobType;
+
+import java.time.LocalDateTime;
+
+public record AiJobResponse(
+    Long jobId,
+    AiJobType type,
+    AiJobStatus status,
+    Long projectId,
+    String result,       // SPEC: 마크다운 명세서 (완료 후)
+    String errorMessage, // 실패 사유
+    LocalDateTime createdAt,
+    LocalDateTime finishedAt
+) {
+  public static AiJobResponse from(AiJob job) {
+    return new AiJobResponse(
+        job.getId(),
+        job.getType(),
+        job.getStatus(),
+        job.getProjectId(),
+        job.getResult(),
+        job.getErrorMessage(),
+        job.getCreatedAt(),
+        job.getFinishedAt()
+    );
+  }
+}
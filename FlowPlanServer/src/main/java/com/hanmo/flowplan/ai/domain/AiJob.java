@@ -0,0 +1,68 @@
+package com.hanmo.flowplan.ai.domain;
+
+import com.hanmo.flowplan.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ⭐️ 비동기 AI 생성 작업 (요청 즉시 id 를 돌려주고, 결과는 상태 조회/SSE 로 확인)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "ai_jobs", indexes = {
+    @Index(name = "idx_ai_jobs_status", columnList = "status"),
+    @Index(name = "idx_ai_jobs_owner_status", columnList = "owner_instance, status")
+})
+public class AiJob extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private AiJobType type;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private AiJobStatus status;
+
+  @Column(name = "requester_google_id", nullable = false)
+  private String requesterGoogleId; // 요청자 (본인만 조회 가능)
+
+  @Column(name = "project_id")
+  private Long projectId; // SPEC 은 완료 시 생성된 프로젝트 id
+
+  @Column(name = "owner_instance", length = 100)
+  private String ownerInstance; // 작업을 실행하는 서버 인스턴스 (재시작 시 자기 작업만 정리)
+
+  @Lob
+  private String result; // SPEC: 마크다운 명세서
+
+  @Column(name = "error_message", length = 500)
+  private String errorMessage;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  public static AiJob queued(AiJobType type, String requesterGoogleId, Long projectId, String ownerInstance) {
+    AiJob job = new AiJob();
+    job.type = type;
+    job.status = AiJobStatus.QUEUED;
+    job.requesterGoogleId = requesterGoogleId;
+    job.projectId = projectId;
+    job.ownerInstance = ownerInstance;
+    return job;
+  }
+
+  // 상태 전이는 AiJobRepository 의 조건부 UPDATE(markRunning/markSucceeded/markFailed)로만 수행
+  // error_message 컬럼 길이에 맞춰 자름
+  public static String errorMessageOf(String errorMessage) {
+    return (errorMessage != null && errorMessage.length() > 500)
+        ? errorMessage.substring(0, 500) : errorMessage;
+  }
+}
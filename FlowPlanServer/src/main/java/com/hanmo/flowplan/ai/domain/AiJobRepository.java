@@ -0,0 +1,67 @@
+package com.hanmo.flowplan.ai.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AiJobRepository extends JpaRepository<AiJob, Long> {
+
+  Optional<AiJob> findByIdAndRequesterGoogleId(Long id, String requesterGoogleId);
+
+  // ⭐️ 상태 전이는 기대한 현재 상태일 때만 (WHERE status = :expected) - 반환값 0 이면 이미 다른 곳에서 바뀐 작업
+  // (예: 실행 중 정리 작업이 FAILED 로 바꾼 작업을 워커가 뒤늦게 SUCCEEDED 로 덮어쓰지 않도록)
+  @Transactional
+  @Modifying
+  @Query("UPDATE AiJob j SET j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.RUNNING, j.updatedAt = :now " +
+      "WHERE j.id = :id AND j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.QUEUED")
+  int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE AiJob j SET j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.SUCCEEDED, " +
+      "j.projectId = :projectId, j.result = :result, j.finishedAt = :now, j.updatedAt = :now " +
+      "WHERE j.id = :id AND j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.RUNNING")
+  int markSucceeded(@Param("id") Long id,
+                    @Param("projectId") Long projectId,
+                    @Param("result") String result,
+                    @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE AiJob j SET j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.FAILED, " +
+      "j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now " +
+      "WHERE j.id = :id AND j.status = :expected")
+  int markFailed(@Param("id") Long id,
+                 @Param("expected") AiJobStatus expected,
+                 @Param("errorMessage") String errorMessage,
+                 @Param("now") LocalDateTime now);
+
+  // ⭐️ 중단된(대기/실행 중으로 남은) 작업을 실패 처리
+  // - 이 인스턴스가 맡았던 작업 (재시작 직후, 같은 인스턴스 id 를 쓰는 경우)
+  // - 어느 인스턴스든 staleBefore 이후로 갱신이 없는 작업 (죽은 인스턴스가 남긴 작업)
+  // 다른 인스턴스에서 아직 실행 중인 작업은 건드리지 않음
+  @Modifying
+  @Query("UPDATE AiJob j SET j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.FAILED, " +
+      "j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now " +
+      "WHERE j.status IN (com.hanmo.flowplan.ai.domain.AiJobStatus.QUEUED, com.hanmo.flowplan.ai.domain.AiJobStatus.RUNNING) " +
+      "AND (j.ownerInstance = :ownerInstance OR j.updatedAt < :staleBefore)")
+  int failInterrupted(@Param("ownerInstance") String ownerInstance,
+                      @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+
+  // 갱신 없이 오래 남은 작업만 실패 처리 (주기 정리용 - 살아 있는 인스턴스의 작업은 그대로 둠)
+  @Modifying
+  @Query("UPDATE AiJob j SET j.status = com.hanmo.flowplan.ai.domain.AiJobStatus.FAILED, " +
+      "j.errorMessage = :errorMessage, j.finishedAt = :now, j.updatedAt = :now " +
+      "WHERE j.status IN (com.hanmo.flowplan.ai.domain.AiJobStatus.QUEUED, com.hanmo.flowplan.ai.domain.AiJobStatus.RUNNING) " +
+      "AND j.updatedAt < :staleBefore")
+  int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+                @Param("errorMessage") String errorMessage,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.hanmo.flowplan.ai.domain;
+
+public enum AiJobStatus {
+  QUEUED,
+  RUNNING,
+  SUCCEEDED,
+  FAILED;
+
+  public boolean isFinished() {
+    return this == SUCCEEDED || this == FAILED;
+  }
+}
@@ -0,0 +1,6 @@
+package com.hanmo.flowplan.ai.domain;
+
+public enum AiJobType {
+  SPEC, // 프로젝트 생성 + 마크다운 명세서 생성
+  WBS   // 명세서로 WBS 생성 + 작업 저장
+}
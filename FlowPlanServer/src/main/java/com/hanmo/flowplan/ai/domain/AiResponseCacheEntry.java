@@ -0,0 +1,30 @@
+package com.hanmo.flowplan.ai.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 응답 캐시 2차 저장 테이블 (JdbcAiResponseStore)
+ * payload 는 gzip 압축한 JSON, 만료 항목 일괄 삭제를 위해 expires_at 에 인덱스를 둡니다.
+ */
+@Entity
+@Getter
+@Table(name = "ai_response_cache",
+    indexes = @Index(name = "idx_ai_response_cache_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+public class AiResponseCacheEntry {
+
+  @Id
+  @Column(name = "cache_key", length = 80)
+  private String cacheKey;
+
+  @Lob
+  @Column(nullable = false)
+  private byte[] payload;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -5,26 +5,33 @@ import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecResponseDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 public class FlowPlanAiClientImpl implements AiClient {
 
-  private final RestTemplate restTemplate;
+  // 엔드포인트별 커넥션 풀/타임아웃 (AiConfig)
+  private final RestTemplate specRestTemplate;
+  private final RestTemplate wbsRestTemplate;
 
   @Value("${AI_SERVICE_BASE_URL}")
   private String aiServiceBaseUrl;
 
+  public FlowPlanAiClientImpl(@Qualifier("aiSpecRestTemplate") RestTemplate specRestTemplate,
+                              @Qualifier("aiWbsRestTemplate") RestTemplate wbsRestTemplate) {
+    this.specRestTemplate = specRestTemplate;
+    this.wbsRestTemplate = wbsRestTemplate;
+  }
+
   @Override
   public AiSpecResponseDto generateMarkdownSpec(AiSpecRequestDto requestDto) {
     String url = aiServiceBaseUrl + "/api/v1/wbs/generate-spec";
 
     try {
-      return restTemplate.postForObject(url, requestDto, AiSpecResponseDto.class);
+      return specRestTemplate.postForObject(url, requestDto, AiSpecResponseDto.class);
     } catch (Exception e) {
       // TODO: AI 서버 호출 실패 시 예외 처리
       throw new RuntimeException("AI 명세서 생성에 실패했습니다: " + e.getMessage());
@@ -38,7 +45,7 @@ public class FlowPlanAiClientImpl implements AiClient {
     String url = aiServiceBaseUrl + "/api/v1/wbs/generate-from-spec/flat";
 
     try {
-      return restTemplate.postForObject(url, requestDto, AiWbsResponseDto.class);
+      return wbsRestTemplate.postForObject(url, requestDto, AiWbsResponseDto.class);
     } catch (Exception e) {
       // TODO: AI 서버 호출 실패 시 예외 처리
       throw new RuntimeException("AI WBS 생성에 실패했습니다: " + e.getMessage());
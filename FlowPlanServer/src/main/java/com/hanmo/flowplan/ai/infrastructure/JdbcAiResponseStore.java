@@ -0,0 +1,71 @@
+package com.hanmo.flowplan.ai.infrastructure;
+
+import com.hanmo.flowplan.ai.application.AiResponseStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 응답 캐시 2차 저장소 (ai_response_cache 테이블) - ai.cache.store=jdbc 일 때만 사용
+ *
+ * - 만료된 행은 조회에서 제외하고, 주기적으로 작은 묶음 단위로 삭제 (긴 잠금 방지)
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "ai.cache.store", havingValue = "jdbc")
+public class JdbcAiResponseStore implements AiResponseStore {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO ai_response_cache (cache_key, payload, expires_at) VALUES (?, ?, ?) " +
+          "ON DUPLICATE KEY UPDATE payload = VALUES(payload), expires_at = VALUES(expires_at)";
+
+  private static final String SELECT_SQL =
+      "SELECT payload FROM ai_response_cache WHERE cache_key = ? AND expires_at > ?";
+
+  private static final String PURGE_EXPIRED_SQL =
+      "DELETE FROM ai_response_cache WHERE expires_at <= ? LIMIT ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int purgeBatchSize;
+
+  public JdbcAiResponseStore(JdbcTemplate jdbcTemplate,
+                             @Value("${ai.cache.purge-batch-size:500}") int purgeBatchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.purgeBatchSize = Math.max(1, purgeBatchSize);
+  }
+
+  @Override
+  public Optional<byte[]> find(String key) {
+    List<byte[]> payloads = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> rs.getBytes("payload"),
+        key, Timestamp.valueOf(LocalDateTime.now()));
+    return payloads.stream().findFirst();
+  }
+
+  @Override
+  public void save(String key, byte[] payload, LocalDateTime expiresAt) {
+    jdbcTemplate.update(UPSERT_SQL, key, payload, Timestamp.valueOf(expiresAt));
+  }
+
+  @Scheduled(fixedDelayString = "${ai.cache.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(PURGE_EXPIRED_SQL, now, purgeBatchSize);
+      total += deleted;
+    } while (deleted == purgeBatchSize);
+
+    if (total > 0) {
+      log.info("Purged {} expired AI response cache entries", total);
+    }
+  }
+}
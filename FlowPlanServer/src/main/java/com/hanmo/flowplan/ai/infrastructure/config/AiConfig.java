@@ -1,13 +1,88 @@
 package com.hanmo.flowplan.ai.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * ⭐️ AI 서버 호출용 HTTP 클라이언트
+ *
+ * - 엔드포인트(spec, wbs)마다 별도 커넥션 풀 - 한쪽이 멈춰도 다른 쪽 커넥션을 다 잡아먹지 않음
+ * - 연결/읽기/응답/풀 대기 타임아웃을 모두 지정 (멈춘 AI 서버가 스레드를 무한정 잡지 않도록)
+ * - keep-alive 재사용, 유휴/만료 커넥션 백그라운드 정리, gzip 응답 압축
+ * - 풀 지표: httpcomponents.httpclient.pool.* (httpclient 태그 = ai-spec, ai-wbs)
+ */
 @Configuration
 public class AiConfig {
+
+  public static final String SPEC_ENDPOINT = "spec";
+  public static final String WBS_ENDPOINT = "wbs";
+
+  @Bean
+  public CloseableHttpClient aiSpecHttpClient(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+    return createHttpClient(AiHttpClientProperties.of(environment, SPEC_ENDPOINT), meterRegistry.getIfAvailable());
+  }
+
+  @Bean
+  public CloseableHttpClient aiWbsHttpClient(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+    return createHttpClient(AiHttpClientProperties.of(environment, WBS_ENDPOINT), meterRegistry.getIfAvailable());
+  }
+
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate aiSpecRestTemplate(@Qualifier("aiSpecHttpClient") CloseableHttpClient aiSpecHttpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiSpecHttpClient));
+  }
+
+  @Bean
+  public RestTemplate aiWbsRestTemplate(@Qualifier("aiWbsHttpClient") CloseableHttpClient aiWbsHttpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiWbsHttpClient));
+  }
+
+  public static CloseableHttpClient createHttpClient(AiHttpClientProperties properties, MeterRegistry meterRegistry) {
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.maxTotal())
+        .setMaxConnPerRoute(properties.maxPerRoute())
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+            .setSocketTimeout(Timeout.of(properties.socketTimeout()))
+            .setTimeToLive(TimeValue.of(properties.timeToLive()))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build())
+        .build();
+
+    if (meterRegistry != null) {
+      new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "ai-" + properties.endpoint())
+          .bindTo(meterRegistry);
+    }
+
+    HttpClientBuilder builder = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+            .setResponseTimeout(Timeout.of(properties.responseTimeout()))
+            .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(properties.idleEvictAfter()))
+        .disableAutomaticRetries(); // LLM 호출은 비싸므로 타임아웃 후 자동 재전송하지 않음
+
+    if (!properties.compression()) {
+      builder.disableContentCompression();
+    }
+    return builder.build();
   }
-}
\ No newline at end of file
+}
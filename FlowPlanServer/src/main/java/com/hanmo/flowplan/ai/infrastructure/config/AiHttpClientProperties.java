@@ -0,0 +1,45 @@
+package com.hanmo.flowplan.ai.infrastructure.config;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * AI 엔드포인트별 HTTP 클라이언트 설정
+ *
+ * ai.http.{endpoint}.{key} 가 있으면 그 값을, 없으면 공통값 ai.http.{key} 를, 그것도 없으면 기본값을 사용합니다.
+ * (예: ai.http.wbs.response-timeout-ms=180000 - WBS 생성만 응답 대기 시간을 늘림)
+ */
+public record AiHttpClientProperties(
+    String endpoint,
+    Duration connectTimeout,           // TCP 연결 수립
+    Duration socketTimeout,            // 패킷 사이 최대 대기 (읽기)
+    Duration responseTimeout,          // 요청 전송 후 응답 시작까지
+    Duration connectionRequestTimeout, // 풀에서 커넥션을 빌리기까지 (풀이 가득 찬 경우)
+    int maxTotal,
+    int maxPerRoute,
+    Duration idleEvictAfter,           // 이 시간 동안 쓰지 않은 커넥션은 백그라운드에서 닫음
+    Duration timeToLive,               // 커넥션 최대 수명 (AI 서버 재배포/로드밸런서 교체 반영)
+    boolean compression                // gzip/deflate 응답 압축 요청 및 해제
+) {
+
+  public static AiHttpClientProperties of(Environment environment, String endpoint) {
+    return new AiHttpClientProperties(
+        endpoint,
+        Duration.ofMillis(get(environment, endpoint, "connect-timeout-ms", Long.class, 3_000L)),
+        Duration.ofMillis(get(environment, endpoint, "socket-timeout-ms", Long.class, 60_000L)),
+        Duration.ofMillis(get(environment, endpoint, "response-timeout-ms", Long.class, 90_000L)),
+        Duration.ofMillis(get(environment, endpoint, "connection-request-timeout-ms", Long.class, 2_000L)),
+        get(environment, endpoint, "max-total", Integer.class, 20),
+        get(environment, endpoint, "max-per-route", Integer.class, 20),
+        Duration.ofSeconds(get(environment, endpoint, "idle-evict-seconds", Long.class, 30L)),
+        Duration.ofSeconds(get(environment, endpoint, "time-to-live-seconds", Long.class, 300L)),
+        get(environment, endpoint, "compression", Boolean.class, true)
+    );
+  }
+
+  private static <T> T get(Environment environment, String endpoint, String key, Class<T> type, T defaultValue) {
+    T common = environment.getProperty("ai.http." + key, type, defaultValue);
+    return environment.getProperty("ai.http." + endpoint + "." + key, type, common);
+  }
+}
@@ -0,0 +1,38 @@
+package com.hanmo.flowplan.ai.presentation;
+
+import com.hanmo.flowplan.ai.application.AiJobService;
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
+import com.hanmo.flowplan.global.annotation.CurrentUserId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "AI Job API", description = "비동기 AI 생성 작업 조회 API")
+@RestController
+@RequestMapping("/api/ai-jobs")
+@RequiredArgsConstructor
+public class AiJobController {
+
+  private final AiJobService aiJobService;
+
+  @Operation(summary = "AI 생성 작업 상태 조회", description = "작업 상태(QUEUED, RUNNING, SUCCEEDED, FAILED)와 완료된 경우 결과를 조회합니다.")
+  @GetMapping("/{jobId}")
+  public ResponseEntity<AiJobResponse> getJob(@PathVariable Long jobId,
+                                              @CurrentUserId String userId) {
+    return ResponseEntity.ok(aiJobService.getJob(jobId, userId));
+  }
+
+  @Operation(summary = "AI 생성 작업 완료 알림 구독 (SSE)", description = "작업이 끝나면 completed 이벤트로 작업 상태/결과를 한 번 보내고 연결을 닫습니다.")
+  @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(@PathVariable Long jobId,
+                              @CurrentUserId String userId) {
+    return aiJobService.subscribe(jobId, userId);
+  }
+}
@@ -0,0 +1,41 @@
+package com.hanmo.flowplan.global.annotation;
+
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
+import com.hanmo.flowplan.user.application.CurrentUserContext;
+import com.hanmo.flowplan.user.application.CurrentUserContext.ResolvedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUserId -> 인증 주체의 googleId
+ * 주체의 사용자 id/이메일은 CurrentUserContext 에 담아, 이후 검증기들이 사용자를 다시 조회하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final CurrentUserContext currentUserContext;
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return parameter.hasParameterAnnotation(CurrentUserId.class);
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails principal)) {
+      return null;
+    }
+    currentUserContext.set(new ResolvedUser(principal.getUserId(), principal.getGoogleId(), principal.getEmail()));
+    return principal.getGoogleId();
+  }
+}
@@ -0,0 +1,27 @@
+package com.hanmo.flowplan.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행할 작업 등록 (트랜잭션 밖이면 즉시 실행)
+ * 캐시 무효화처럼 롤백되면 하지 말아야 하고, 커밋 전에 하면 이전 값이 다시 캐시될 수 있는 작업용
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {
+  }
+
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
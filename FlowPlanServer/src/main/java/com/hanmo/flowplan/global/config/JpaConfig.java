@@ -0,0 +1,41 @@
+package com.hanmo.flowplan.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+  /**
+   * JDBC 배치 설정 (AI WBS 대량 저장 등)
+   * application.yml에 값이 있으면 그 값을 우선합니다.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc-batch-size:100}") int batchSize) {
+    return properties -> {
+      properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+      properties.putIfAbsent("hibernate.order_updates", true);
+    };
+  }
+
+  /**
+   * MySQL 드라이버가 배치 INSERT를 multi-row INSERT 한 문장으로 재작성하도록 설정
+   */
+  @Bean
+  public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari
+            && hikari.getJdbcUrl() != null && hikari.getJdbcUrl().startsWith("jdbc:mysql")) {
+          hikari.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -26,9 +26,14 @@ public enum ErrorCode {
   USER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다."),
   PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 프로젝트를 찾을 수 없습니다."),
   TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 작업을 찾을 수 없습니다."),
+  AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 AI 생성 작업을 찾을 수 없습니다."),
 
   /* 409 CONFLICT : Resource 의 현재 상태와 충돌. 보통 중복 발생 시 사용 */
   DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "데이터가 이미 존재합니다."),
+  CONCURRENT_UPDATE(HttpStatus.CONFLICT, "다른 사용자가 동시에 수정 중입니다. 잠시 후 다시 시도해주세요."), // ⭐️ 낙관적 락 재시도 초과
+
+  /* 429 TOO_MANY_REQUESTS : 요청 한도 초과 */
+  TOO_MANY_AI_JOBS(HttpStatus.TOO_MANY_REQUESTS, "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."), // ⭐️ AI 작업 동시 실행/대기열 한도
 
   /* 500 INTERNAL_SERVER_ERROR : 서버 내부 오류 */
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
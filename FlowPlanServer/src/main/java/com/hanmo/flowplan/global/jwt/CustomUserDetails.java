@@ -1,29 +1,64 @@
 package com.hanmo.flowplan.global.jwt;
 
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.user.domain.User;
+import com.hanmo.flowplan.user.domain.UserRole;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * ⭐️ 인증 주체 (엔티티가 아닌 값만 보관)
+ * 액세스 토큰 클레임만으로 만들 수 있어 요청마다 User 를 조회하지 않습니다.
+ */
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class CustomUserDetails  implements UserDetails {
 
-  private final User user;
+  private final Long userId;
+  private final String googleId; // ⭐️ @CurrentUserId 가 꺼내는 값
+  private final String email;
+  private final UserRole role;
 
-  @Override
-  public Collection<? extends GrantedAuthority> getAuthorities() {
-    return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
+  // 토큰에 프로젝트 권한 클레임이 있을 때만 값이 있음 (projectId -> 멤버 id/역할, 발급 당시 epoch)
+  private final Map<Long, ProjectClaim> projects;
+  private final Long membershipEpoch;
+
+  // 인증에 사용된 액세스 토큰의 id(jti)/만료 시각 (폐기 확인, 로그아웃용)
+  private final String tokenId;
+  private final Instant tokenExpiresAt;
+
+  public CustomUserDetails(Long userId, String googleId, String email, UserRole role) {
+    this(userId, googleId, email, role, null, null);
+  }
+
+  public CustomUserDetails(Long userId, String googleId, String email, UserRole role,
+                           Map<Long, ProjectClaim> projects, Long membershipEpoch) {
+    this(userId, googleId, email, role, projects, membershipEpoch, null, null);
+  }
+
+  // 캐시된 주체는 여러 토큰이 공유하므로 토큰 정보는 복사본에 담음
+  public CustomUserDetails withToken(String tokenId, Instant tokenExpiresAt) {
+    return new CustomUserDetails(userId, googleId, email, role, projects, membershipEpoch, tokenId, tokenExpiresAt);
+  }
+
+  public static CustomUserDetails from(User user) {
+    return new CustomUserDetails(user.getId(), user.getGoogleId(), user.getEmail(), user.getRole());
   }
 
-  // ⭐️ 우리가 원하는 'googleId'를 반환하는 커스텀 메서드
-  public String getGoogleId() {
-    return user.getGoogleId();
+  public record ProjectClaim(Long memberId, ProjectRole role) {
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return List.of(new SimpleGrantedAuthority("ROLE_" + role));
   }
 
   @Override
@@ -34,7 +69,7 @@ public class CustomUserDetails  implements UserDetails {
   @Override
   public String getUsername() {
 
-    return user.getGoogleId();
+    return googleId;
   }
 
   // ⬇️ 계정 관련 정책 (모두 true로 설정)
@@ -1,5 +1,6 @@
 package com.hanmo.flowplan.global.jwt;
 
+import com.hanmo.flowplan.user.application.MembershipEpochService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtProvider jwtProvider;
+  private final TokenRevocationList tokenRevocationList;
+  private final MembershipEpochService membershipEpochService;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -29,9 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // 2. 토큰이 유효한지 검증
     if (at != null) {
       try {
-        jwtProvider.validate(at);
+        // 검증 + 인증 객체 생성을 한 번의 파싱으로 처리
         Authentication auth = jwtProvider.getAuthentication(at);
-        SecurityContextHolder.getContext().setAuthentication(auth);
+        // 폐기(로그아웃)된 토큰이면 인증하지 않음 - Bloom filter 에 없으면 DB 조회 없이 통과
+        if (!isRevoked(auth) && hasCurrentProjectClaims(auth)) {
+          SecurityContextHolder.getContext().setAuthentication(auth);
+        }
 
       } catch (IllegalArgumentException | IllegalStateException e) {
         SecurityContextHolder.clearContext();
@@ -40,4 +46,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // 6. 다음 필터로 진행
     filterChain.doFilter(request, response);
   }
+
+  // 토큰 id는 인증 객체를 만들 때 이미 꺼내 둔 값을 사용 (토큰을 다시 파싱하지 않음)
+  private boolean isRevoked(Authentication auth) {
+    return auth.getPrincipal() instanceof CustomUserDetails principal
+        && tokenRevocationList.isRevoked(principal.getTokenId());
+  }
+
+  // 프로젝트 권한 클레임은 발급 이후 멤버십 변경(epoch 증가)이 없을 때만 신뢰 -> 변경되었으면 401 로 재발급 유도
+  private boolean hasCurrentProjectClaims(Authentication auth) {
+    if (!(auth.getPrincipal() instanceof CustomUserDetails principal) || principal.getMembershipEpoch() == null) {
+      return true;
+    }
+    return principal.getMembershipEpoch() >= membershipEpochService.currentEpoch(principal.getGoogleId());
+  }
 }
@@ -1,7 +1,14 @@
 package com.hanmo.flowplan.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails.ProjectClaim;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
+import com.hanmo.flowplan.user.domain.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,10 +22,20 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.hanmo.flowplan.global.jwt.JwtConstant.*;
 
@@ -27,16 +44,58 @@ public class JwtProvider {
 
   private static final String TOKEN_SUBJECT = "FlowPlan";
 
+  // ⭐️ 액세스 토큰에 담는 사용자 클레임 (필터가 DB 조회 없이 인증 주체를 만들 수 있도록)
+  private static final String CLAIM_USER_ID = "uid";
+  private static final String CLAIM_EMAIL = "email";
+  private static final String CLAIM_ROLE = "role";
+
+  // ⭐️ (선택) 프로젝트 권한 클레임 - ["프로젝트id:멤버id:역할 첫 글자", ...] + 발급 당시 멤버십 epoch
+  private static final String CLAIM_PROJECTS = "prj";
+  private static final String CLAIM_MEMBERSHIP_EPOCH = "mep";
+
   private final UserRepository userRepository;
+  private final ProjectMemberRepository projectMemberRepository;
   private final Key key;
 
-  public JwtProvider(@Value("${jwt.secretKey}") String base64SecretKey, UserRepository userRepository) {
+  private final boolean projectClaimsEnabled;
+  private final int maxProjectClaims;
+
+  // ⭐️ 서명 검증용 파서는 불변(thread-safe)이므로 한 번만 만들어 재사용
+  private final JwtParser parser;
+
+  // 최근 검증에 성공한 토큰(SHA-256 다이제스트) -> 클레임, 토큰 만료 시각까지만 유지 (null = 사용 안 함)
+  private final Cache<String, Claims> verifiedTokenCache;
+
+  // 사용자 클레임이 없는 (이전 방식) 토큰용 인증 주체 캐시 - googleId -> 주체
+  private final Cache<String, CustomUserDetails> principalCache;
+
+  public JwtProvider(@Value("${jwt.secretKey}") String base64SecretKey, UserRepository userRepository,
+                     ProjectMemberRepository projectMemberRepository,
+                     @Value("${jwt.principal-cache.ttl-seconds:300}") long principalCacheTtlSeconds,
+                     @Value("${jwt.principal-cache.max-size:10000}") long principalCacheMaxSize,
+                     @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                     @Value("${jwt.project-claims.enabled:false}") boolean projectClaimsEnabled,
+                     @Value("${jwt.project-claims.max-projects:20}") int maxProjectClaims) {
       this.userRepository = userRepository;
+      this.projectMemberRepository = projectMemberRepository;
+      this.projectClaimsEnabled = projectClaimsEnabled;
+      this.maxProjectClaims = maxProjectClaims;
+      this.principalCache = Caffeine.newBuilder()
+              .expireAfterWrite(Duration.ofSeconds(principalCacheTtlSeconds))
+              .maximumSize(principalCacheMaxSize)
+              .build();
       byte[] keyBytes = Decoders.BASE64.decode(base64SecretKey.trim());
       if (keyBytes.length < 32) { // HS256 최소 256비트
           throw new IllegalArgumentException("jwt.secretKey must be 256-bit (Base64).");
       }
       this.key = Keys.hmacShaKeyFor(keyBytes);
+      this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+      this.verifiedTokenCache = (verifiedCacheMaxSize > 0)
+              ? Caffeine.newBuilder()
+                      .maximumSize(verifiedCacheMaxSize)
+                      .expireAfter(new UntilTokenExpiry())
+                      .build()
+              : null;
   }
 
   public JwtToken issueToken(String googleId) {
@@ -45,10 +104,21 @@ public class JwtProvider {
       return new JwtToken(GRANT_TYPE, at, rt);
   }
 
+  // ⭐️ 사용자 클레임(uid, email, role)을 담은 액세스 토큰 발급
+  public JwtToken issueToken(User user) {
+      String at = createAccessToken(user);
+      String rt = createRefreshToken(user.getGoogleId());
+      return new JwtToken(GRANT_TYPE, at, rt);
+  }
+
   public JwtToken reissue(String refreshToken) {
-      assertRefreshToken(refreshToken);
-      String googleId = getGoogleIdFromToken(refreshToken);
-      return issueToken(googleId);
+      Claims claims = parseClaims(refreshToken);
+      assertRefreshType(claims);
+      String googleId = claims.get("googleId", String.class);
+      // 재발급은 드물게 일어나므로 여기서만 최신 사용자 정보를 조회해 클레임을 채움
+      return userRepository.findByGoogleId(googleId)
+              .map(this::issueToken)
+              .orElseGet(() -> issueToken(googleId));
   }
 
   public String createAccessToken(String googleId) {
@@ -58,11 +128,46 @@ public class JwtProvider {
               .setSubject(TOKEN_SUBJECT)
               .claim("googleId", googleId)
               .claim("type", "access")
+              .setId(UUID.randomUUID().toString()) // jti - 로그아웃 시 폐기 목록 키
               .setExpiration(exp)
               .signWith(key, SignatureAlgorithm.HS256)
               .compact();
   }
 
+  public String createAccessToken(User user) {
+      long now = System.currentTimeMillis();
+      Date exp = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
+      JwtBuilder builder = Jwts.builder()
+              .setSubject(TOKEN_SUBJECT)
+              .claim("googleId", user.getGoogleId())
+              .claim(CLAIM_USER_ID, user.getId())
+              .claim(CLAIM_EMAIL, user.getEmail())
+              .claim(CLAIM_ROLE, user.getRole().name())
+              .claim("type", "access")
+              .setId(UUID.randomUUID().toString()) // jti - 로그아웃 시 폐기 목록 키
+              .setExpiration(exp);
+
+      if (projectClaimsEnabled) {
+          addProjectClaims(builder, user);
+      }
+      return builder.signWith(key, SignatureAlgorithm.HS256).compact();
+  }
+
+  // 참여 프로젝트가 많으면 토큰이 커지므로 클레임을 넣지 않음 (-> DB/캐시 권한 검사)
+  // epoch 를 먼저 읽고 멤버십을 읽으므로, 그 사이 변경이 있어도 더 작은 epoch 가 들어가 안전하게 거부됨
+  private void addProjectClaims(JwtBuilder builder, User user) {
+      long epoch = user.getMembershipEpoch();
+      List<Object[]> rows = projectMemberRepository.findProjectRolesByUserId(user.getId());
+      if (rows.size() > maxProjectClaims) {
+          return;
+      }
+      List<String> projects = rows.stream()
+              .map(row -> row[0] + ":" + row[1] + ":" + ((ProjectRole) row[2]).name().charAt(0))
+              .toList();
+      builder.claim(CLAIM_PROJECTS, projects)
+              .claim(CLAIM_MEMBERSHIP_EPOCH, epoch);
+  }
+
   public String createRefreshToken(String googleId) {
       long now = System.currentTimeMillis();
       Date exp = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
@@ -84,8 +189,11 @@ public class JwtProvider {
   }
 
   public void assertRefreshToken(String token) {
-      validate(token);
-      String type = (String) parseClaims(token).get("type");
+      assertRefreshType(parseClaims(token));
+  }
+
+  private void assertRefreshType(Claims claims) {
+      String type = (String) claims.get("type");
       if (!"refresh".equals(type)) throw new IllegalArgumentException("Not a refresh token.");
   }
 
@@ -104,12 +212,20 @@ public class JwtProvider {
       return bearer.substring((GRANT_TYPE + " ").length());
   }
 
+  /**
+   * 토큰을 한 번만 검증/파싱해서 인증 객체를 만듭니다. (별도의 validate 호출 불필요)
+   * 유효하지 않으면 IllegalArgumentException, 만료되었으면 IllegalStateException
+   */
   public Authentication getAuthentication(String token) {
-    String googleId = getGoogleIdFromToken(token);
-    User user = userRepository.findByGoogleId(googleId)
-        .orElseThrow(() -> new UsernameNotFoundException("User not found: " + googleId));
+    Claims claims = parseClaims(token);
+
+    // ⭐️ 클레임만으로 인증 주체 구성 (DB 조회 없음), 이전 방식 토큰은 TTL 캐시 -> DB 순
+    // 토큰 id(jti)/만료 시각도 함께 담아서 폐기 확인/로그아웃에서 토큰을 다시 파싱하지 않도록 함
+    CustomUserDetails userDetails = (claims.containsKey(CLAIM_USER_ID)
+        ? fromClaims(claims)
+        : loadPrincipal(claims.get("googleId", String.class)))
+        .withToken(claims.getId(), (claims.getExpiration() != null) ? claims.getExpiration().toInstant() : null);
 
-    CustomUserDetails userDetails = new CustomUserDetails(user);
     return new UsernamePasswordAuthenticationToken(
         userDetails, // ⬅️ Principal (사용자 정보 객체)
         null,        // ⬅️ Credentials (비밀번호, 필요 없음)
@@ -117,14 +233,94 @@ public class JwtProvider {
     );
   }
 
+  private CustomUserDetails fromClaims(Claims claims) {
+    Number epoch = (Number) claims.get(CLAIM_MEMBERSHIP_EPOCH);
+    return new CustomUserDetails(
+        ((Number) claims.get(CLAIM_USER_ID)).longValue(),
+        claims.get("googleId", String.class),
+        claims.get(CLAIM_EMAIL, String.class),
+        UserRole.valueOf(claims.get(CLAIM_ROLE, String.class)),
+        (epoch != null) ? parseProjectClaims(claims.get(CLAIM_PROJECTS, List.class)) : null,
+        (epoch != null) ? epoch.longValue() : null
+    );
+  }
+
+  private static Map<Long, ProjectClaim> parseProjectClaims(List<?> values) {
+    Map<Long, ProjectClaim> projects = new HashMap<>();
+    if (values == null) {
+      return projects;
+    }
+    for (Object value : values) {
+      String[] parts = value.toString().split(":");
+      projects.put(Long.valueOf(parts[0]), new ProjectClaim(Long.valueOf(parts[1]), roleOf(parts[2].charAt(0))));
+    }
+    return projects;
+  }
+
+  private static ProjectRole roleOf(char code) {
+    for (ProjectRole role : ProjectRole.values()) {
+      if (role.name().charAt(0) == code) {
+        return role;
+      }
+    }
+    throw new IllegalArgumentException("유효하지 않은 토큰");
+  }
+
+  private CustomUserDetails loadPrincipal(String googleId) {
+    return principalCache.get(googleId, id -> userRepository.findByGoogleId(id)
+        .map(CustomUserDetails::from)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found: " + id)));
+  }
+
   private Claims parseClaims(String token) {
+      if (verifiedTokenCache == null) {
+          return verify(token);
+      }
+      // 같은 토큰은 만료 전까지 서명 검증을 다시 하지 않음 (캐시 항목은 exp 시각에 제거됨)
+      return verifiedTokenCache.get(digest(token), d -> verify(token));
+  }
+
+  private Claims verify(String token) {
       try {
-          return Jwts.parserBuilder().setSigningKey(key).build()
-                  .parseClaimsJws(token).getBody();
+          return parser.parseClaimsJws(token).getBody();
       } catch (ExpiredJwtException e) {
           throw new IllegalStateException("만료된 토큰");
       } catch (JwtException e) {
           throw new IllegalArgumentException("유효하지 않은 토큰");
       }
   }
+
+  // 원문 토큰을 메모리에 키로 남기지 않도록 다이제스트로 저장
+  private static String digest(String token) {
+      try {
+          MessageDigest md = MessageDigest.getInstance("SHA-256");
+          return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+          throw new IllegalStateException(e);
+      }
+  }
+
+  // 캐시 항목 수명 = 토큰의 남은 유효 시간
+  private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+      @Override
+      public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+          Date exp = claims.getExpiration();
+          if (exp == null) {
+              return 0L;
+          }
+          long remainingMillis = exp.getTime() - System.currentTimeMillis();
+          return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+      }
+
+      @Override
+      public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+          return currentDuration;
+      }
+
+      @Override
+      public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+          return currentDuration;
+      }
+  }
 }
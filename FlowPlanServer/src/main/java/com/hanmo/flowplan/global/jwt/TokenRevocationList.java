@@ -0,0 +1,165 @@
+package com.hanmo.flowplan.global.jwt;
+
+import com.hanmo.flowplan.user.domain.RevokedToken;
+import com.hanmo.flowplan.user.domain.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ⭐️ 액세스 토큰 폐기 목록 (jti 기준)
+ *
+ * - 원본은 revoked_tokens 테이블, 요청 경로에서는 메모리의 Bloom filter 를 먼저 확인
+ *   -> 대부분의 (폐기되지 않은) 토큰은 DB 조회 없이 통과, "있을 수도 있음"일 때만 DB 확인
+ * - 필터는 주기적으로 DB에서 다시 만들고(만료된 폐기 기록도 이때 정리), 이 서버에서 폐기한 토큰은 즉시 반영
+ *   (재구성용 DB 읽기에 아직 보이지 않는 폐기 - 재구성 중이거나 커밋 전 - 는 recentlyRevoked 로 따로 확인)
+ * - 다른 서버에서 폐기한 토큰은 다음 재구성(jwt.revocation.rebuild-interval-ms) 이후 반영
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int expectedInsertions;
+  private final double falsePositiveRate;
+
+  private volatile BloomFilter filter;
+
+  // 이 서버에서 폐기했지만 아직 필터 재구성용 DB 읽기에서 확인되지 않은 토큰 (jti -> 만료 시각)
+  private final Map<String, Instant> recentlyRevoked = new ConcurrentHashMap<>();
+
+  public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${jwt.revocation.expected-insertions:10000}") int expectedInsertions,
+                             @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.expectedInsertions = Math.max(1, expectedInsertions);
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = new BloomFilter(this.expectedInsertions, falsePositiveRate);
+  }
+
+  /**
+   * 토큰을 만료 시각까지 폐기 목록에 올립니다. (jti 가 없는 이전 방식 토큰은 무시)
+   */
+  public void revoke(String jti, Instant expiresAt) {
+    if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+      return;
+    }
+    revokedTokenRepository.save(RevokedToken.of(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+    recentlyRevoked.put(jti, expiresAt);
+    filter.put(jti);
+  }
+
+  public boolean isRevoked(String jti) {
+    if (jti == null) {
+      return false;
+    }
+    if (recentlyRevoked.containsKey(jti)) {
+      return true; // 이 서버에서 방금 폐기한 토큰 (필터 교체 시점과 무관하게 즉시 거부)
+    }
+    if (!filter.mightContain(jti)) {
+      return false; // 빠른 경로: 확실히 폐기되지 않음
+    }
+    return revokedTokenRepository.existsById(jti);
+  }
+
+  /**
+   * 만료된 폐기 기록을 지우고 필터를 새로 만듭니다.
+   *
+   * - 삭제만 짧은 트랜잭션으로 실행하고, 활성 목록은 트랜잭션 밖에서 읽음 (REPEATABLE READ 스냅샷에 묶이지 않고 최신 커밋을 읽도록)
+   * - 그 읽기에 포함된 폐기 기록만 recentlyRevoked 에서 빼므로, 재구성 중에 들어온 폐기도 새 필터 교체 후 계속 거부됨
+   */
+  @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+  public void rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    Integer purged = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now));
+
+    List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+    BloomFilter next = new BloomFilter(Math.max(expectedInsertions, jtis.size() * 2), falsePositiveRate);
+    jtis.forEach(next::put);
+    recentlyRevoked.keySet().forEach(next::put);
+    this.filter = next;
+
+    Set<String> persisted = new HashSet<>(jtis);
+    Instant current = Instant.now();
+    recentlyRevoked.entrySet().removeIf(entry -> persisted.contains(entry.getKey()) || !entry.getValue().isAfter(current));
+
+    log.debug("Token revocation filter rebuilt: {} active, {} purged, {} pending", jtis.size(), purged,
+        recentlyRevoked.size());
+  }
+
+  /**
+   * 고정 크기 Bloom filter (double hashing, 동시 put 허용)
+   */
+  static final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+      long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      this.bitCount = Math.max(64, m);
+      this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+      this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    void put(String key) {
+      long hash = hash64(key);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 1; i <= hashCount; i++) {
+        long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+        long mask = 1L << (index & 63);
+        int word = (int) (index >>> 6);
+        long current;
+        while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+          // 다른 스레드가 같은 word 를 바꾼 경우 재시도
+        }
+      }
+    }
+
+    boolean mightContain(String key) {
+      long hash = hash64(key);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 1; i <= hashCount; i++) {
+        long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+        if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // FNV-1a 64 + 마무리 섞기(splitmix64)
+    private static long hash64(String key) {
+      long h = 0xcbf29ce484222325L;
+      for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+        h ^= b;
+        h *= 0x100000001b3L;
+      }
+      h ^= (h >>> 33);
+      h *= 0xff51afd7ed558ccdL;
+      h ^= (h >>> 33);
+      h *= 0xc4ceb9fe1a85ec53L;
+      h ^= (h >>> 33);
+      return h;
+    }
+  }
+}
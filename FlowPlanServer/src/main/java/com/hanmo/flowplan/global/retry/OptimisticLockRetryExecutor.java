@@ -0,0 +1,72 @@
+package com.hanmo.flowplan.global.retry;
+
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * ⭐️ 동시 수정 충돌(낙관적 락 실패, 교착 상태 희생 등) 시 트랜잭션 전체를 짧게 재시도합니다.
+ *
+ * - 반드시 트랜잭션 "바깥"에서 호출해야 합니다. (재시도마다 새 트랜잭션 = 최신 데이터로 다시 계산)
+ * - 대기 시간은 지수 증가 + Full Jitter (동시에 실패한 요청들이 같은 시점에 다시 부딪히지 않도록)
+ * - 최대 횟수를 넘기면 409 CONCURRENT_UPDATE
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+  private final int maxAttempts;
+  private final long baseBackoffMillis;
+  private final long maxBackoffMillis;
+
+  public OptimisticLockRetryExecutor(@Value("${retry.optimistic-lock.max-attempts:5}") int maxAttempts,
+                                     @Value("${retry.optimistic-lock.base-backoff-ms:10}") long baseBackoffMillis,
+                                     @Value("${retry.optimistic-lock.max-backoff-ms:200}") long maxBackoffMillis) {
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.baseBackoffMillis = baseBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  public <T> T execute(Supplier<T> action) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (ConcurrencyFailureException e) {
+        if (attempt >= maxAttempts) {
+          log.warn("Concurrent update retry exhausted after {} attempts: {}", attempt, e.getMessage());
+          throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+        }
+        log.debug("Concurrent update conflict (attempt {}/{}), retrying: {}", attempt, maxAttempts, e.getMessage());
+        sleep(backoffMillis(attempt));
+      }
+    }
+  }
+
+  public void execute(Runnable action) {
+    execute(() -> {
+      action.run();
+      return null;
+    });
+  }
+
+  // Full Jitter: [0, min(max, base * 2^(attempt-1))]
+  private long backoffMillis(int attempt) {
+    long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BusinessException(ErrorCode.CONCURRENT_UPDATE);
+    }
+  }
+}
@@ -5,6 +5,8 @@ import com.hanmo.flowplan.project.application.validator.InvitationValidator;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.ProjectInvitation;
 import com.hanmo.flowplan.project.domain.repository.ProjectInvitationRepository;
+import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
@@ -25,7 +27,9 @@ public class InvitationService {
 
   private final ProjectInvitationRepository invitationRepository;
   private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectRepository projectRepository;
   private final EmailService emailService;
+  private final ProjectMembershipCache projectMembershipCache;
 
   private final ProjectMemberValidator projectMemberValidator;
   private final InvitationValidator invitationValidator;
@@ -80,6 +84,8 @@ public class InvitationService {
         .role(ProjectRole.VIEWER)
         .build();
     projectMemberRepository.save(newMember);
+    projectRepository.adjustMemberCount(invitation.getProject().getId(), 1); // 멤버 수 증가 + 캐시(ETag) 무효화
+    projectMembershipCache.evictAfterCommit(userGoogleId, invitation.getProject().getId());
 
     // 6. 토큰 사용 처리 (핵심 로직)
     invitation.useToken();
@@ -0,0 +1,42 @@
+package com.hanmo.flowplan.project.application;
+
+import com.hanmo.flowplan.project.infrastructure.ProjectCounterJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 컬럼 추가 이전에 만들어진 프로젝트의 멤버 수 / 작업 수를 채워 넣습니다. (기동 시 1회)
+ * ⭐️ 주기 보정 작업(ProjectCounterRepairJob, 기본 꺼짐)과 별개로 항상 실행되며,
+ *    채울 행이 없으면 EXISTS 조회 한 번으로 끝납니다.
+ * - 여러 서버가 동시에 기동해도 보정 UPDATE 가 change_version 조건부라 같은 값을 두 번 쓰지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "project.counter-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectCounterBackfill implements SmartInitializingSingleton {
+
+  private final ProjectCounterJdbcRepository projectCounterJdbcRepository;
+  private final int batchSize;
+
+  public ProjectCounterBackfill(ProjectCounterJdbcRepository projectCounterJdbcRepository,
+                                @Value("${project.counter-repair.batch-size:500}") int batchSize) {
+    this.projectCounterJdbcRepository = projectCounterJdbcRepository;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    backfill();
+  }
+
+  public void backfill() {
+    if (!projectCounterJdbcRepository.existsUncountedProject()) {
+      return;
+    }
+    int repaired = projectCounterJdbcRepository.repairAllCounters(batchSize);
+    log.info("Backfilled counters of {} projects", repaired);
+  }
+}
@@ -0,0 +1,43 @@
+package com.hanmo.flowplan.project.application;
+
+import com.hanmo.flowplan.project.infrastructure.ProjectCounterJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 요약 카운터 보정 작업
+ *
+ * - 평소에는 멤버/작업 쓰기 트랜잭션 안에서 카운터가 함께 갱신됨
+ * - 직접 수정한 데이터 등 어긋난 값을 주기적으로 일괄 재계산
+ *   (카운터 컬럼 추가 이전 데이터는 이 작업과 관계없이 기동 시 ProjectCounterBackfill 이 1회 채움)
+ * - id 구간(batchSize) 단위로 나눠 실행 (한 번에 전체 프로젝트 행을 오래 잠그지 않도록)
+ * - 전체 테이블을 훑는 작업이므로 project.counter-repair.enabled=true 인 서버 한 대에서만 실행
+ *   (기동 직후가 아니라 initial-delay-ms 이후부터)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "project.counter-repair.enabled", havingValue = "true")
+public class ProjectCounterRepairJob {
+
+  private final ProjectCounterJdbcRepository projectCounterJdbcRepository;
+  private final int batchSize;
+
+  public ProjectCounterRepairJob(ProjectCounterJdbcRepository projectCounterJdbcRepository,
+                                 @Value("${project.counter-repair.batch-size:500}") int batchSize) {
+    this.projectCounterJdbcRepository = projectCounterJdbcRepository;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  @Scheduled(initialDelayString = "${project.counter-repair.initial-delay-ms:600000}",
+      fixedDelayString = "${project.counter-repair.interval-ms:86400000}")
+  public void repair() {
+    int repaired = projectCounterJdbcRepository.repairAllCounters(batchSize);
+
+    if (repaired > 0) {
+      log.info("Repaired counters of {} projects", repaired);
+    }
+  }
+}
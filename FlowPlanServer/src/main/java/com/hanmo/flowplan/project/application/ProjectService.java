@@ -1,106 +1,205 @@
 package com.hanmo.flowplan.project.application;
 
 import com.hanmo.flowplan.ai.application.AiDtoMapper;
+import com.hanmo.flowplan.ai.application.AiJobService;
+import com.hanmo.flowplan.ai.application.AiJobService.AiJobResult;
 import com.hanmo.flowplan.ai.application.AiService;
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
+import com.hanmo.flowplan.ai.domain.AiJobType;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecResponseDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
 import com.hanmo.flowplan.project.application.dto.CreateProjectWithSpecResponse;
 import com.hanmo.flowplan.project.application.dto.ProjectListResponse;
+import com.hanmo.flowplan.project.application.dto.ProjectSliceResponse;
 import com.hanmo.flowplan.project.application.validator.ProjectValidator;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
 import com.hanmo.flowplan.project.presentation.dto.CreateProjectRequest;
 import com.hanmo.flowplan.project.presentation.dto.GenerateWbsRequestDto;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.task.application.TaskService;
+import com.hanmo.flowplan.user.application.MembershipEpochService;
 import com.hanmo.flowplan.user.application.validator.UserValidator;
 import com.hanmo.flowplan.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
-import java.util.Comparator;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+  private static final int MAX_PROJECT_PAGE_SIZE = 100;
+
   private final ProjectRepository projectRepository;
   private final ProjectMemberRepository projectMemberRepository;
 
   private final UserValidator userValidator;
   private final ProjectValidator projectValidator;
   private final ProjectMemberValidator projectMemberValidator;
+  private final ProjectMembershipCache projectMembershipCache;
+  private final MembershipEpochService membershipEpochService;
   private final AiDtoMapper aiDtoMapper; // (DTO 변환기)
   private final AiService aiService;     // (AI 호출 담당)
   private final TaskService taskService;   // (WBS 저장 담당)
-
-  @Transactional
-  public CreateProjectWithSpecResponse createProjectAndGenerateSpec(CreateProjectRequest createProjectRequest, String userId) {
-
-    User owner = userValidator.validateAndGetUser(userId);
-
-    // 1. (Project 저장)
-    Project savedProject = projectRepository.save(createProjectRequest.toEntity(owner));
-
-    // 프로젝트와 소유자 연결 저장
-    ProjectMember projectMember = ProjectMember.builder()
-        .user(savedProject.getOwner())
-        .project(savedProject)
-        .role(ProjectRole.OWNER)
-        .build();
-
-    projectMemberRepository.save(projectMember);
-
-    // 2. (Project -> DTO 변환)
-    AiSpecRequestDto specRequestDto = aiDtoMapper.toSpecRequestDto(savedProject);
-
-    // 3. (AI 1단계 호출) - 명세서 생성
-    AiSpecResponseDto specResponseDto = aiService.generateMarkdownSpec(specRequestDto);
+  private final TransactionTemplate transactionTemplate; // (AI 호출 전후 짧은 트랜잭션)
+  private final AiJobService aiJobService; // (비동기 AI 작업 실행)
+
+  // ⭐️ AI 호출(10~60초) 동안 DB 커넥션/잠금을 잡고 있지 않도록 트랜잭션을 짧게 나눔
+  // 저장 트랜잭션 -> (트랜잭션 밖) AI 호출 -> 실패 시 보상 트랜잭션으로 프로젝트 삭제
+  // (refresh = true 면 같은 입력의 캐시된 AI 응답을 쓰지 않고 새로 생성)
+  public CreateProjectWithSpecResponse createProjectAndGenerateSpec(CreateProjectRequest createProjectRequest, String userId,
+                                                                    boolean refresh) {
+
+    // 1. (Project 저장) + AI 요청 DTO 변환까지 한 트랜잭션에서 처리
+    PendingSpec pending = transactionTemplate.execute(status -> {
+      User owner = userValidator.validateAndGetUser(userId);
+      Project savedProject = projectRepository.save(createProjectRequest.toEntity(owner));
+
+      // 프로젝트와 소유자 연결 저장
+      ProjectMember projectMember = ProjectMember.builder()
+          .user(savedProject.getOwner())
+          .project(savedProject)
+          .role(ProjectRole.OWNER)
+          .build();
+
+      projectMemberRepository.save(projectMember);
+      projectRepository.adjustMemberCount(savedProject.getId(), 1);
+
+      // 2. (Project -> DTO 변환)
+      return new PendingSpec(savedProject.getId(), aiDtoMapper.toSpecRequestDto(savedProject));
+    });
+
+    // 3. (AI 1단계 호출) - 명세서 생성 (커넥션 없이)
+    AiSpecResponseDto specResponseDto;
+    try {
+      specResponseDto = aiService.generateMarkdownSpec(pending.specRequest(), refresh);
+    } catch (RuntimeException e) {
+      // 기존(단일 트랜잭션)과 같이 AI 실패 시 빈 프로젝트가 남지 않도록 삭제
+      transactionTemplate.executeWithoutResult(status -> projectRepository.deleteById(pending.projectId()));
+      throw e;
+    }
 
     // 4. (결과 반환) - Project ID와 마크다운 반환
     return new CreateProjectWithSpecResponse(
-        savedProject.getId(),
+        pending.projectId(),
         specResponseDto.markdownSpec()
     );
   }
 
+  // ⭐️ 권한 확인(짧은 읽기 트랜잭션) -> (트랜잭션 밖) AI 호출 -> 권한 재확인 + 저장(짧은 쓰기 트랜잭션)
+  public void generateWbsAndSaveTasks(GenerateWbsRequestDto generateWbsRequestDto, String userId, boolean refresh) {
+    Long projectId = generateWbsRequestDto.projectId();
 
-  @Transactional
-  public void generateWbsAndSaveTasks(GenerateWbsRequestDto generateWbsRequestDto, String userId) {
+    // 권한이 없으면 AI를 호출하기 전에 실패
+    projectMemberValidator.checkPermission(userId, projectId, ProjectRole.EDITOR);
 
-    ProjectMember member = projectMemberValidator.validatePermission(
-        userId,
-        generateWbsRequestDto.projectId(),
-        ProjectRole.EDITOR
-    );
-    // 1. (AI 2단계 호출) - WBS 생성
-    AiWbsResponseDto wbsResponseDto = aiService.generateWbsFromMarkdown(generateWbsRequestDto.markdownContent());
+    // 1. (AI 2단계 호출) - WBS 생성 (커넥션 없이)
+    AiWbsResponseDto wbsResponseDto = aiService.generateWbsFromMarkdown(generateWbsRequestDto.markdownContent(), refresh);
+
+    // 2. (WBS 저장) - AI 응답을 기다리는 동안 권한이 바뀌었을 수 있으므로 저장 트랜잭션에서 다시 확인
+    transactionTemplate.executeWithoutResult(status -> {
+      ProjectMember member = projectMemberValidator.validatePermission(userId, projectId, ProjectRole.EDITOR);
+      taskService.saveTasksFromAiResponse(member.getProject(), wbsResponseDto);
+    });
+  }
+
+  // ⭐️ 비동기 버전 - 작업 id 를 바로 반환하고, 위 흐름은 AI 작업 워커에서 실행 (결과는 /api/ai-jobs/{jobId})
+  public AiJobResponse submitSpecGeneration(CreateProjectRequest createProjectRequest, String userId, boolean refresh) {
+    return aiJobService.submit(userId, AiJobType.SPEC, null, () -> {
+      CreateProjectWithSpecResponse response = createProjectAndGenerateSpec(createProjectRequest, userId, refresh);
+      return new AiJobResult(response.projectId(), response.markdownContent());
+    });
+  }
 
-    // 2. (WBS 저장) - TaskService를 통해 WBS 항목 저장
-    taskService.saveTasksFromAiResponse(member.getProject(), wbsResponseDto);
+  public AiJobResponse submitWbsGeneration(GenerateWbsRequestDto generateWbsRequestDto, String userId, boolean refresh) {
+    // 권한이 없으면 작업을 만들지 않고 바로 실패 (403)
+    projectMemberValidator.checkPermission(userId, generateWbsRequestDto.projectId(), ProjectRole.EDITOR);
+
+    return aiJobService.submit(userId, AiJobType.WBS, generateWbsRequestDto.projectId(), () -> {
+      generateWbsAndSaveTasks(generateWbsRequestDto, userId, refresh);
+      return new AiJobResult(generateWbsRequestDto.projectId(), null);
+    });
   }
 
   @Transactional(readOnly = true)
   public List<ProjectListResponse> findAllProjects(String userId) {
-    User user = userValidator.validateAndGetUser(userId);
+    // ⭐️ 내가 멤버인 프로젝트를 DTO 프로젝션 한 번으로 조회 (정렬은 DB에서 최신 수정일 순, 멤버/작업 수는 카운터 컬럼)
+    return projectMemberRepository.findProjectList(userId);
+  }
+
+  // 프로젝트 목록 (키셋 페이지) - 최근 수정 순, size+1 개를 조회해서 다음 페이지 여부 판단
+  @Transactional(readOnly = true)
+  public ProjectSliceResponse findProjectSlice(String userId, String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PROJECT_PAGE_SIZE);
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+    List<ProjectListResponse> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = projectMemberRepository.findProjectListFirstPage(userId, limit);
+    } else {
+      ProjectCursor after = ProjectCursor.decode(cursor);
+      rows = projectMemberRepository.findProjectListAfter(userId, after.updatedAt(), after.id(), limit);
+    }
+
+    if (rows.size() <= pageSize) {
+      return ProjectSliceResponse.of(rows, null);
+    }
+    List<ProjectListResponse> page = rows.subList(0, pageSize);
+    ProjectListResponse last = page.get(pageSize - 1);
+    return ProjectSliceResponse.of(List.copyOf(page), new ProjectCursor(last.updatedAt(), last.id()).encode());
+  }
+
+  // AI 호출 전 저장 트랜잭션의 결과 (엔티티 대신 id와 요청 DTO만 트랜잭션 밖으로 전달)
+  private record PendingSpec(Long projectId, AiSpecRequestDto specRequest) {
+  }
 
-    // 1. 내가 멤버로 속한 모든 프로젝트 멤버십 조회
-    List<ProjectMember> memberships = projectMemberRepository.findAllByUser(user);
+  // 다음 페이지 시작 위치 (마지막 항목의 수정일, id) - 클라이언트에는 불투명한 문자열로 전달
+  private record ProjectCursor(LocalDateTime updatedAt, Long id) {
+
+    String encode() {
+      String raw = updatedAt + "_" + id;
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProjectCursor decode(String cursor) {
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.lastIndexOf('_');
+        return new ProjectCursor(LocalDateTime.parse(raw.substring(0, separator)),
+            Long.valueOf(raw.substring(separator + 1)));
+      } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+      }
+    }
+  }
 
-    // 2. Project 엔티티 추출 -> DTO 변환 -> 최신순 정렬
-    return memberships.stream()
-        .map(ProjectMember::getProject) // Project 객체 꺼내기
-        .sorted(Comparator.comparing(Project::getUpdatedAt).reversed()) // ⭐️ 최신 수정일 순 정렬
-        .map(ProjectListResponse::from) // DTO 변환
-        .collect(Collectors.toList());
+  // 프로젝트 목록 ETag - (프로젝트 id, 변경 버전, 수정일) 튜플만 조회해서 해시
+  // 멤버 참여/탈퇴, 작업 변경, 프로젝트 추가/삭제가 모두 반영됩니다.
+  @Transactional(readOnly = true)
+  public String getProjectListETag(String userId) {
+    StringBuilder source = new StringBuilder();
+    for (Object[] row : projectMemberRepository.findProjectVersionsByGoogleId(userId)) {
+      source.append(row[0]).append(':').append(row[1]).append(':').append(row[2]).append(';');
+    }
+    return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
   }
 
   // ============================================================
@@ -110,9 +209,11 @@ public class ProjectService {
   public void deleteProject(Long projectId, String userId) {
     ProjectMember member = projectMemberValidator.validatePermission(userId, projectId, ProjectRole.OWNER);
 
-    // 2. 프로젝트 삭제
+    // 2. 프로젝트 삭제 (멤버 행이 지워지기 전에 모든 멤버의 토큰 권한 클레임 무효화)
+    membershipEpochService.increaseForProjectMembers(projectId);
     // (CascadeType.ALL 설정에 의해 연결된 Task, ProjectMember도 함께 삭제됨)
     projectRepository.delete(member.getProject());
+    projectMembershipCache.evictProjectAfterCommit(projectId);
   }
 
 
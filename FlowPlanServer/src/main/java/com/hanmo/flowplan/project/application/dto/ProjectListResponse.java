@@ -12,8 +12,17 @@ public record ProjectListResponse(
     LocalDate startDate,
     LocalDate endDate,
     int memberCount,
+    TaskCountResponse taskCounts,
     LocalDateTime updatedAt // 최신순 정렬 기준
 ) {
+  // JPQL 생성자 프로젝션용 (카운터 컬럼을 그대로 받음)
+  public ProjectListResponse(Long id, String projectName, String projectType, LocalDate startDate,
+                             LocalDate endDate, int memberCount, int taskCount, int todoTaskCount,
+                             int inProgressTaskCount, int doneTaskCount, LocalDateTime updatedAt) {
+    this(id, projectName, projectType, startDate, endDate, memberCount,
+        new TaskCountResponse(taskCount, todoTaskCount, inProgressTaskCount, doneTaskCount), updatedAt);
+  }
+
   public static ProjectListResponse from(Project project) {
     return new ProjectListResponse(
         project.getId(),
@@ -21,8 +30,9 @@ public record ProjectListResponse(
         project.getProjectType(),
         project.getStartDate(),
         project.getEndDate(),
-        project.getProjectMembers().size(),
+        project.getMemberCount(), // ⭐️ 멤버 컬렉션 초기화 없이 카운터 사용
+        TaskCountResponse.from(project),
         project.getUpdatedAt()
     );
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.hanmo.flowplan.project.application.dto;
+
+import java.util.List;
+
+/**
+ * 프로젝트 목록 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record ProjectSliceResponse(
+    List<ProjectListResponse> projects,
+    String nextCursor
+) {
+  public static ProjectSliceResponse of(List<ProjectListResponse> projects, String nextCursor) {
+    return new ProjectSliceResponse(projects, nextCursor);
+  }
+}
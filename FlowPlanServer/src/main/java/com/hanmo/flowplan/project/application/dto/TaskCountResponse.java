@@ -0,0 +1,20 @@
+package com.hanmo.flowplan.project.application.dto;
+
+import com.hanmo.flowplan.project.domain.Project;
+
+// 프로젝트 작업 요약 (전체 / 상태별 작업 수) - 프로젝트 행의 카운터 컬럼 값
+public record TaskCountResponse(
+    int total,
+    int todo,
+    int inProgress,
+    int done
+) {
+  public static TaskCountResponse from(Project project) {
+    return new TaskCountResponse(
+        project.getTaskCount(),
+        project.getTodoTaskCount(),
+        project.getInProgressTaskCount(),
+        project.getDoneTaskCount()
+    );
+  }
+}
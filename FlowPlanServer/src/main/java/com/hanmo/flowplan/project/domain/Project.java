@@ -65,6 +65,34 @@ public class Project extends BaseTimeEntity {
   private String detailedRequirements; // 12. 더 구체적인 요구사항 (⭐️ 추가)
 
   // --- 연관 관계 ---
+  // ⭐️ 프로젝트 변경 버전 (작업이 바뀔 때마다 1씩 증가, 델타 동기화 기준값)
+  // 증가는 ProjectRepository.updateLastModifiedDate 의 UPDATE 쿼리에서만 수행 (엔티티 flush로 덮어쓰지 않도록 updatable = false)
+  @Column(name = "change_version", nullable = false, updatable = false)
+  private long changeVersion;
+
+  // ⭐️ 삭제 기록(task_tombstones)을 정리한 마지막 변경 버전 - since 가 이보다 작으면 삭제 id 를 다 알 수 없으므로 전체 재조회
+  // 변경은 TaskTombstoneJdbcRepository 의 UPDATE 쿼리에서만 수행
+  @Column(name = "tombstone_horizon", nullable = false, updatable = false)
+  private long tombstoneHorizon;
+
+  // ⭐️ 요약 카운터 (목록/요약 응답이 멤버/작업 테이블을 읽지 않도록 비정규화)
+  // 멤버 수는 참여/탈퇴 시, 작업 수는 작업 쓰기 트랜잭션 끝에 바뀐 행 수만큼 증감 (ProjectRepository 의 UPDATE 쿼리에서만 변경)
+  // 어긋난 값은 ProjectCounterRepairJob 이 주기적으로 일괄 보정
+  @Column(name = "member_count", nullable = false, updatable = false)
+  private int memberCount;
+
+  @Column(name = "task_count", nullable = false, updatable = false)
+  private int taskCount;
+
+  @Column(name = "todo_task_count", nullable = false, updatable = false)
+  private int todoTaskCount;
+
+  @Column(name = "in_progress_task_count", nullable = false, updatable = false)
+  private int inProgressTaskCount;
+
+  @Column(name = "done_task_count", nullable = false, updatable = false)
+  private int doneTaskCount;
+
   @BatchSize(size = 100)
   @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<ProjectMember> projectMembers = new ArrayList<>();
@@ -9,9 +9,33 @@ import org.springframework.data.repository.query.Param;
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
   // ⭐️ [핵심] "Touch" 메서드
-  // Task가 변경될 때 이 메서드를 호출하여 프로젝트의 updatedAt을 현재 시간으로 갱신합니다.
-  @Modifying(clearAutomatically = true)
-  @Query("UPDATE Project p SET p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :projectId")
+  // Task가 변경될 때 이 메서드를 호출하여 프로젝트의 updatedAt을 현재 시간으로 갱신하고 변경 버전을 1 올립니다.
+  // 프로젝트 행 잠금이 커밋까지 유지되므로 같은 프로젝트의 변경 버전은 커밋 순서대로 증가합니다.
+  // (작업 변경 전에 호출하므로 영속성 컨텍스트는 비우지 않음 - changeVersion 은 updatable = false)
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Project p SET p.updatedAt = CURRENT_TIMESTAMP, p.changeVersion = p.changeVersion + 1 " +
+      "WHERE p.id = :projectId")
   void updateLastModifiedDate(@Param("projectId") Long projectId);
 
+  @Query("SELECT p.changeVersion FROM Project p WHERE p.id = :projectId")
+  long findChangeVersionById(@Param("projectId") Long projectId);
+
+  // 멤버 참여/탈퇴 - 멤버 수 증감 + 버전 증가를 UPDATE 한 번으로 (목록 정렬 기준인 updatedAt 은 유지)
+  // 어긋난 카운터에서 탈퇴해도 0 미만으로 내려가지 않도록 GREATEST 로 고정
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Project p SET p.memberCount = GREATEST(p.memberCount + :delta, 0), p.changeVersion = p.changeVersion + 1 " +
+      "WHERE p.id = :projectId")
+  void adjustMemberCount(@Param("projectId") Long projectId, @Param("delta") int delta);
+
+  // ⭐️ 작업 수 / 상태별 작업 수 증감 (작업 쓰기 트랜잭션 끝에서 호출, 이미 잠근 프로젝트 행 UPDATE 한 번)
+  // 작업 테이블 집계 없이 이번 쓰기에서 바뀐 행 수만 반영 - 전체 재계산은 ProjectCounterRepairJob 에서만
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Project p SET p.taskCount = GREATEST(p.taskCount + :total, 0), " +
+      "p.todoTaskCount = GREATEST(p.todoTaskCount + :todo, 0), " +
+      "p.inProgressTaskCount = GREATEST(p.inProgressTaskCount + :inProgress, 0), " +
+      "p.doneTaskCount = GREATEST(p.doneTaskCount + :done, 0) " +
+      "WHERE p.id = :projectId")
+  void adjustTaskCounts(@Param("projectId") Long projectId, @Param("total") int total, @Param("todo") int todo,
+                        @Param("inProgress") int inProgress, @Param("done") int done);
+
 }
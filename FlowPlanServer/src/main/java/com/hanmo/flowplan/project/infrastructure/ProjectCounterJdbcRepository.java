@@ -0,0 +1,106 @@
+package com.hanmo.flowplan.project.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 프로젝트 요약 카운터(멤버 수, 작업 수, 상태별 작업 수) 일괄 보정용 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectCounterJdbcRepository {
+
+  // id 구간에서 카운터가 집계 값과 다른 프로젝트만 (집계 시점의 change_version 과 함께) 조회
+  // 문장 하나 = 일관된 스냅샷 하나 (잠금 없음)
+  private static final String SELECT_DRIFTED_SQL =
+      "SELECT p.id, p.change_version, COALESCE(m.members, 0) AS members, COALESCE(t.total, 0) AS total, " +
+          "COALESCE(t.todo, 0) AS todo, COALESCE(t.in_progress, 0) AS in_progress, COALESCE(t.done, 0) AS done " +
+          "FROM projects p " +
+          "LEFT JOIN (SELECT project_id, COUNT(*) AS members FROM project_members " +
+          "WHERE project_id BETWEEN ? AND ? GROUP BY project_id) m ON m.project_id = p.id " +
+          "LEFT JOIN (SELECT project_id, COUNT(*) AS total, SUM(status = 'TODO') AS todo, " +
+          "SUM(status = 'IN_PROGRESS') AS in_progress, SUM(status = 'DONE') AS done FROM tasks " +
+          "WHERE project_id BETWEEN ? AND ? GROUP BY project_id) t ON t.project_id = p.id " +
+          "WHERE p.id BETWEEN ? AND ? AND (p.member_count <> COALESCE(m.members, 0) " +
+          "OR p.task_count <> COALESCE(t.total, 0) OR p.todo_task_count <> COALESCE(t.todo, 0) " +
+          "OR p.in_progress_task_count <> COALESCE(t.in_progress, 0) OR p.done_task_count <> COALESCE(t.done, 0))";
+
+  // ⭐️ 집계 이후 멤버/작업 쓰기가 있었으면(change_version 이 바뀌었으면) 덮어쓰지 않음 -> 다음 주기에 다시 확인
+  // 보정한 행은 change_version 을 올려서 보드/목록 ETag 도 함께 무효화
+  private static final String UPDATE_COUNTERS_SQL =
+      "UPDATE projects SET member_count = ?, task_count = ?, todo_task_count = ?, " +
+          "in_progress_task_count = ?, done_task_count = ?, change_version = change_version + 1 " +
+          "WHERE id = ? AND change_version = ?";
+
+  private static final String SELECT_MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM projects";
+
+  // 멤버가 있는데 멤버 수가 0 인 프로젝트 = 카운터 컬럼 추가 이전 행 (새 프로젝트는 생성 트랜잭션에서 OWNER 와 함께 1 이 됨)
+  private static final String EXISTS_UNCOUNTED_SQL =
+      "SELECT EXISTS (SELECT 1 FROM projects p WHERE p.member_count = 0 " +
+          "AND EXISTS (SELECT 1 FROM project_members m WHERE m.project_id = p.id))";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public long findMaxProjectId() {
+    Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID_SQL, Long.class);
+    return (maxId != null) ? maxId : 0L;
+  }
+
+  public boolean existsUncountedProject() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_UNCOUNTED_SQL, Boolean.class));
+  }
+
+  /**
+   * 전체 프로젝트를 id 구간(batchSize) 단위로 나눠 카운터를 재계산합니다.
+   * @return 실제로 보정한 프로젝트 수
+   */
+  public int repairAllCounters(int batchSize) {
+    long maxId = findMaxProjectId();
+    int repaired = 0;
+    for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+      repaired += repairCounters(fromId, fromId + batchSize - 1);
+    }
+    return repaired;
+  }
+
+  /**
+   * [fromId, toId] 구간 프로젝트의 카운터를 재계산합니다.
+   * @return 실제로 보정한 프로젝트 수 (어긋나 있었고, 집계 이후 다른 쓰기가 없었던 행)
+   */
+  public int repairCounters(long fromId, long toId) {
+    List<DriftedCounters> drifted = jdbcTemplate.query(SELECT_DRIFTED_SQL, (rs, rowNum) -> new DriftedCounters(
+        rs.getLong("id"), rs.getLong("change_version"), rs.getInt("members"), rs.getInt("total"),
+        rs.getInt("todo"), rs.getInt("in_progress"), rs.getInt("done")),
+        fromId, toId, fromId, toId, fromId, toId);
+    if (drifted.isEmpty()) {
+      return 0;
+    }
+
+    int[][] results = jdbcTemplate.batchUpdate(UPDATE_COUNTERS_SQL, drifted, drifted.size(), (ps, row) -> {
+      ps.setInt(1, row.members());
+      ps.setInt(2, row.total());
+      ps.setInt(3, row.todo());
+      ps.setInt(4, row.inProgress());
+      ps.setInt(5, row.done());
+      ps.setLong(6, row.id());
+      ps.setLong(7, row.changeVersion());
+    });
+
+    int repaired = 0;
+    for (int[] batch : results) {
+      for (int updated : batch) {
+        if (updated > 0) {
+          repaired++;
+        }
+      }
+    }
+    return repaired;
+  }
+
+  private record DriftedCounters(long id, long changeVersion, int members, int total,
+                                 int todo, int inProgress, int done) {
+  }
+}
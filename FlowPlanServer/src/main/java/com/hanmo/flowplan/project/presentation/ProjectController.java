@@ -1,20 +1,25 @@
 package com.hanmo.flowplan.project.presentation;
 
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
 import com.hanmo.flowplan.global.annotation.CurrentUserId;
 import com.hanmo.flowplan.global.jwt.CustomUserDetails;
 import com.hanmo.flowplan.project.application.ProjectService;
 import com.hanmo.flowplan.project.application.dto.CreateProjectWithSpecResponse;
 import com.hanmo.flowplan.project.application.dto.ProjectListResponse;
+import com.hanmo.flowplan.project.application.dto.ProjectSliceResponse;
 import com.hanmo.flowplan.project.presentation.dto.CreateProjectRequest;
 import com.hanmo.flowplan.project.presentation.dto.GenerateWbsRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,27 +33,68 @@ public class ProjectController {
 
   @Operation(summary = "내 프로젝트 목록 조회", description = "내가 참여 중인 프로젝트를 최근 수정된 순서(Touch 반영)대로 조회합니다.")
   @GetMapping
-  public ResponseEntity<List<ProjectListResponse>> getProjects(@CurrentUserId String userId) {
+  public ResponseEntity<List<ProjectListResponse>> getProjects(@CurrentUserId String userId,
+                                                               WebRequest webRequest) {
+    // ⭐️ 변경이 없으면 목록을 조회하지 않고 304 반환
+    String eTag = projectService.getProjectListETag(userId);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+
     List<ProjectListResponse> projects = projectService.findAllProjects(userId);
-    return ResponseEntity.ok(projects);
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache()) // 보관은 하되 매번 If-None-Match 로 재검증
+        .body(projects);
+  }
+
+  @Operation(summary = "내 프로젝트 목록 조회 (페이지)", description = "최근 수정 순으로 size 개씩 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+  @GetMapping(params = "size")
+  public ResponseEntity<ProjectSliceResponse> getProjectSlice(@CurrentUserId String userId,
+                                                              @RequestParam int size,
+                                                              @RequestParam(required = false) String cursor) {
+    return ResponseEntity.ok(projectService.findProjectSlice(userId, cursor, size));
   }
 
-  @Operation(summary = "프로젝트 생성 & AI 명세서 요청", description = "프로젝트 정보를 입력받아 저장하고, AI에게 마크다운 명세서를 요청합니다.")
+  @Operation(summary = "프로젝트 생성 & AI 명세서 요청", description = "프로젝트 정보를 입력받아 저장하고, AI에게 마크다운 명세서를 요청합니다. 같은 입력이면 캐시된 명세서를 반환하며, refresh=true 이면 새로 생성합니다.")
   @PostMapping
   ResponseEntity<CreateProjectWithSpecResponse> createProject(@Valid @RequestBody CreateProjectRequest createProjectRequest,
+                                                              @RequestParam(defaultValue = "false") boolean refresh,
                                                               @CurrentUserId String userId) {
-    CreateProjectWithSpecResponse response = projectService.createProjectAndGenerateSpec(createProjectRequest, userId);
+    CreateProjectWithSpecResponse response = projectService.createProjectAndGenerateSpec(createProjectRequest, userId, refresh);
     return ResponseEntity.ok(response);
   }
 
-  @Operation(summary = "WBS 생성 & Task 저장", description = "확정된 마크다운 명세서를 AI에게 보내 WBS를 생성하고 DB에 저장합니다.")
+  @Operation(summary = "WBS 생성 & Task 저장", description = "확정된 마크다운 명세서를 AI에게 보내 WBS를 생성하고 DB에 저장합니다. 같은 명세서면 캐시된 WBS를 사용하며, refresh=true 이면 새로 생성합니다.")
   @PostMapping("/wbs")
   ResponseEntity<Void> generateWbs(@RequestBody GenerateWbsRequestDto generateWbsRequestDto,
+                                   @RequestParam(defaultValue = "false") boolean refresh,
                                    @CurrentUserId String userId) {
-    projectService.generateWbsAndSaveTasks(generateWbsRequestDto, userId);
+    projectService.generateWbsAndSaveTasks(generateWbsRequestDto, userId, refresh);
     return ResponseEntity.ok().build();
   }
 
+  @Operation(summary = "프로젝트 생성 & AI 명세서 요청 (비동기)", description = "AI 생성 작업 id 를 바로 반환합니다. 결과는 /api/ai-jobs/{jobId} 조회 또는 SSE 구독으로 확인합니다.")
+  @PostMapping("/jobs")
+  ResponseEntity<AiJobResponse> createProjectAsync(@Valid @RequestBody CreateProjectRequest createProjectRequest,
+                                                   @RequestParam(defaultValue = "false") boolean refresh,
+                                                   @CurrentUserId String userId) {
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(projectService.submitSpecGeneration(createProjectRequest, userId, refresh));
+  }
+
+  @Operation(summary = "WBS 생성 & Task 저장 (비동기)", description = "AI 생성 작업 id 를 바로 반환합니다. 결과는 /api/ai-jobs/{jobId} 조회 또는 SSE 구독으로 확인합니다.")
+  @PostMapping("/wbs/jobs")
+  ResponseEntity<AiJobResponse> generateWbsAsync(@RequestBody GenerateWbsRequestDto generateWbsRequestDto,
+                                                 @RequestParam(defaultValue = "false") boolean refresh,
+                                                 @CurrentUserId String userId) {
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(projectService.submitWbsGeneration(generateWbsRequestDto, userId, refresh));
+  }
+
   @Operation(summary = "프로젝트 삭제", description = "프로젝트 소유자(Owner)만 삭제할 수 있습니다.")
   @DeleteMapping("/{projectId}")
   public ResponseEntity<Void> deleteProject(@PathVariable Long projectId,
@@ -9,6 +9,7 @@ import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValid
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.user.application.MembershipEpochService;
 import com.hanmo.flowplan.user.application.validator.UserValidator;
 import com.hanmo.flowplan.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -26,11 +27,13 @@ public class ProjectMemberService {
   private final ProjectRepository projectRepository;
   private final UserValidator userValidator;
   private final ProjectMemberValidator projectMemberValidator;
+  private final ProjectMembershipCache projectMembershipCache;
+  private final MembershipEpochService membershipEpochService;
 
   // 1. 권한 변경 요청 (멤버 -> 소유자에게)
   @Transactional
   public void requestRoleChange(Long projectId, String userId) {
-    User user = userValidator.validateAndGetUser(userId);
+    User user = userValidator.getUserReference(userId);
     Project project = projectRepository.findById(projectId)
         .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
 
@@ -45,13 +48,15 @@ public class ProjectMemberService {
     // 역할을 PENDING (승인 대기) 상태로 변경
     // (또는 별도의 status 컬럼을 두는 방법도 있지만, 여기선 role을 활용)
     member.updateRole(ProjectRole.PENDING);
+    projectMembershipCache.evictAfterCommit(userId, projectId);
+    membershipEpochService.increase(userId);
   }
 
   // 2. 권한 승인 (소유자 -> 멤버)
   @Transactional
   public void approveRoleChange(Long projectId, Long memberId, String ownerId) {
     // 1. 요청자(Owner) 권한 검증
-    projectMemberValidator.validatePermission(ownerId, projectId, ProjectRole.OWNER);
+    projectMemberValidator.checkPermission(ownerId, projectId, ProjectRole.OWNER);
 
     // 2. 승인 대상 멤버 조회
     ProjectMember targetMember = projectMemberRepository.findById(memberId)
@@ -62,6 +67,8 @@ public class ProjectMemberService {
 
     // 4. EDITOR로 승급
     targetMember.updateRole(ProjectRole.EDITOR);
+    projectMembershipCache.evictAfterCommit(targetMember.getUser().getGoogleId(), projectId);
+    membershipEpochService.increase(targetMember.getUser().getGoogleId());
   }
 
   @Transactional
@@ -69,7 +76,7 @@ public class ProjectMemberService {
 
     // 1. 요청자(Owner) 권한 검증
     // (이 메서드를 호출한 사람이 OWNER가 맞는지 확인)
-    projectMemberValidator.validatePermission(ownerId, projectId, ProjectRole.OWNER);
+    projectMemberValidator.checkPermission(ownerId, projectId, ProjectRole.OWNER);
 
     // 2. 대상 멤버 조회
     ProjectMember targetMember = projectMemberRepository.findById(PmemberId)
@@ -82,6 +89,8 @@ public class ProjectMemberService {
 
     // 4. 권한 변경 적용
     targetMember.updateRole(newRole);
+    projectMembershipCache.evictAfterCommit(targetMember.getUser().getGoogleId(), projectId);
+    membershipEpochService.increase(targetMember.getUser().getGoogleId());
   }
 
 
@@ -90,8 +99,8 @@ public class ProjectMemberService {
   // ============================================================
   public List<ProjectMemberResponse> getProjectMembers(Long projectId, String userId) {
     // 1. 권한 검증: 최소 VIEWER 권한이 있는지 확인
-    // (조회 API이므로, validatePermission의 반환값(ProjectMember)은 사용하지 않음)
-    projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER);
+    // (조회 API이므로 멤버 엔티티가 필요 없음 -> 캐시/토큰 클레임으로 권한만 확인)
+    projectMemberValidator.checkPermission(userId, projectId, ProjectRole.VIEWER);
 
     // 2. 프로젝트 ID로 모든 멤버 조회 (ProjectMember 엔티티의 fetch join 설정 권장)
     List<ProjectMember> members = projectMemberRepository.findAllByProjectId(projectId);
@@ -108,7 +117,7 @@ public class ProjectMemberService {
   @Transactional
   public void kickMember(Long projectId, Long memberIdToKick, String ownerGoogleId) {
     // 1. 요청자(Owner) 권한 검증: OWNER만 가능
-    projectMemberValidator.validatePermission(ownerGoogleId, projectId, ProjectRole.OWNER);
+    projectMemberValidator.checkPermission(ownerGoogleId, projectId, ProjectRole.OWNER);
 
     // 2. 추방 대상 멤버 조회
     ProjectMember targetMember = projectMemberRepository.findById(memberIdToKick)
@@ -121,6 +130,9 @@ public class ProjectMemberService {
 
     // 4. 추방 실행
     projectMemberRepository.delete(targetMember);
+    projectRepository.adjustMemberCount(projectId, -1); // 멤버 수 감소 + 캐시(ETag) 무효화
+    projectMembershipCache.evictAfterCommit(targetMember.getUser().getGoogleId(), projectId);
+    membershipEpochService.increase(targetMember.getUser().getGoogleId());
   }
 
   // ============================================================
@@ -129,7 +141,7 @@ public class ProjectMemberService {
   @Transactional
   public void leaveProject(Long projectId, String userGoogleId) {
     // 1. 유저 조회
-    User user = userValidator.validateAndGetUser(userGoogleId);
+    User user = userValidator.getUserReference(userGoogleId);
 
     // 2. 프로젝트 조회
     Project project = projectRepository.findById(projectId)
@@ -146,6 +158,9 @@ public class ProjectMemberService {
 
     // 5. 나가기 실행
     projectMemberRepository.delete(member);
+    projectRepository.adjustMemberCount(projectId, -1); // 멤버 수 감소 + 캐시(ETag) 무효화
+    projectMembershipCache.evictAfterCommit(userGoogleId, projectId);
+    membershipEpochService.increase(userGoogleId);
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.hanmo.flowplan.projectMember.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanmo.flowplan.global.common.AfterCommit;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ⭐️ (googleId, projectId) -> 멤버 id/역할 캐시 (권한 검사용)
+ *
+ * 1. 모든 작업/프로젝트 API가 권한 검사를 하므로, 짧은 TTL 동안은 DB 조회 없이 통과
+ * 2. 역할 변경/추방/나가기/초대 수락/프로젝트 삭제 트랜잭션이 커밋된 뒤 해당 항목 제거
+ * 3. 다른 서버에서의 변경은 TTL(project.member-cache.ttl-seconds) 이내에 반영
+ */
+@Component
+public class ProjectMembershipCache {
+
+  static final String CACHE_NAME = "projectMembership";
+
+  private final Cache<Key, Membership> cache;
+
+  public ProjectMembershipCache(@Value("${project.member-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${project.member-cache.max-size:50000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public Membership get(String googleId, Long projectId) {
+    return cache.getIfPresent(new Key(googleId, projectId));
+  }
+
+  public void put(String googleId, Long projectId, Membership membership) {
+    cache.put(new Key(googleId, projectId), membership);
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 한 사용자의 멤버십 항목을 제거합니다. (트랜잭션 밖이면 즉시)
+   */
+  public void evictAfterCommit(String googleId, Long projectId) {
+    Key key = new Key(googleId, projectId);
+    AfterCommit.run(() -> cache.invalidate(key));
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 프로젝트의 모든 멤버십 항목을 제거합니다. (프로젝트 삭제)
+   */
+  public void evictProjectAfterCommit(Long projectId) {
+    AfterCommit.run(() -> cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId)));
+  }
+
+  private record Key(String googleId, Long projectId) {
+  }
+
+  public record Membership(Long memberId, ProjectRole role) {
+  }
+}
@@ -2,14 +2,20 @@ package com.hanmo.flowplan.projectMember.application.validator;
 
 import com.hanmo.flowplan.global.error.ErrorCode;
 import com.hanmo.flowplan.global.error.exception.BusinessException;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails.ProjectClaim;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache.Membership;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,19 +27,13 @@ public class ProjectMemberValidator {
   private final UserRepository userRepository;
   private final ProjectRepository projectRepository;
   private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectMembershipCache projectMembershipCache;
 
   public Project validateMembership(String googleId, Long projectId) {
-    User user = userRepository.findByGoogleId(googleId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
-
-    if (!projectMemberRepository.existsByUserAndProject(user, project)) {
-      throw new BusinessException(ErrorCode.NOT_PROJECT_MEMBER);
-    }
-
-    return project;
+    // 사용자/프로젝트를 따로 조회하지 않고 조인 한 번으로 멤버 + 프로젝트 확인
+    return projectMemberRepository.findWithProjectByGoogleIdAndProjectId(googleId, projectId)
+        .map(ProjectMember::getProject)
+        .orElseThrow(() -> notMemberException(googleId, projectId));
   }
 
   public void validateMembership(User user, Project project) {
@@ -74,23 +74,65 @@ public class ProjectMemberValidator {
     }
   }
 
+  /**
+   * ⭐️ 권한만 확인 (멤버/프로젝트 엔티티가 필요 없는 경우)
+   * 토큰의 프로젝트 권한 클레임 또는 멤버십 캐시에 있으면 DB 조회 없이 확인합니다.
+   * 둘 다 없으면 조인 쿼리 한 번으로 멤버를 조회해 캐시에 저장합니다.
+   */
+  public void checkPermission(String googleId, Long projectId, ProjectRole requiredRole) {
+    Membership cached = claimedMembership(googleId, projectId);
+    if (cached == null) {
+      cached = projectMembershipCache.get(googleId, projectId);
+    }
+    if (cached != null) {
+      assertHasPermission(cached.role(), requiredRole);
+      return;
+    }
+    validatePermission(googleId, projectId, requiredRole);
+  }
+
+  /**
+   * ⭐️ 권한 확인 + 멤버/프로젝트 엔티티 반환 - 항상 조인 쿼리 1회 (프로젝트도 함께 로딩)
+   * (캐시의 id 로 지연 로딩 참조를 만들면 사용할 때 조회가 더 늘고, 다른 서버에서 삭제된 멤버는 늦게 실패함)
+   */
   public ProjectMember validatePermission(String googleId, Long projectId, ProjectRole requiredRole) {
-    User user = userRepository.findByGoogleId(googleId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 1. 멤버인지 확인 (사용자 + 프로젝트 + 멤버 조인 1회)
+    ProjectMember member = projectMemberRepository.findWithProjectByGoogleIdAndProjectId(googleId, projectId)
+        .orElseThrow(() -> notMemberException(googleId, projectId));
+    projectMembershipCache.put(googleId, projectId, new Membership(member.getId(), member.getProjectRole()));
 
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
+    // 2. 권한 레벨 확인 (Enum 메서드 활용)
+    assertHasPermission(member.getProjectRole(), requiredRole);
 
-    // 1. 멤버인지 확인
-    ProjectMember member = projectMemberRepository.findByUserAndProject(user, project)
-        .orElseThrow(() -> new BusinessException(ErrorCode.NOT_PROJECT_MEMBER));
+    return member;
+  }
 
-    // 2. 권한 레벨 확인 (Enum 메서드 활용)
-    if (!member.getProjectRole().hasPermission(requiredRole)) {
+  // 현재 요청 토큰의 클레임 (필터에서 멤버십 epoch 가 최신인 경우에만 인증됨)
+  private Membership claimedMembership(String googleId, Long projectId) {
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails principal)
+        || principal.getProjects() == null || !principal.getGoogleId().equals(googleId)) {
+      return null;
+    }
+    ProjectClaim claim = principal.getProjects().get(projectId);
+    return (claim != null) ? new Membership(claim.memberId(), claim.role()) : null;
+  }
+
+  private void assertHasPermission(ProjectRole role, ProjectRole requiredRole) {
+    if (!role.hasPermission(requiredRole)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED, "이 작업을 수행할 권한이 부족합니다.");
     }
+  }
 
-    return member;
+  // 실패 경로에서만 원인(사용자/프로젝트 없음, 멤버 아님)을 구분해서 기존과 같은 에러 코드를 유지
+  private BusinessException notMemberException(String googleId, Long projectId) {
+    if (!projectRepository.existsById(projectId)) {
+      return new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
+    }
+    if (userRepository.findByGoogleId(googleId).isEmpty()) {
+      return new BusinessException(ErrorCode.USER_NOT_FOUND);
+    }
+    return new BusinessException(ErrorCode.NOT_PROJECT_MEMBER);
   }
 
   public void validateRoleChangeStatus(ProjectMember member, ProjectRole expectedStatus) {
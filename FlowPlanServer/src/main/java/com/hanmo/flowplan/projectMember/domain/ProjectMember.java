@@ -11,7 +11,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "project_members")
+@Table(name = "project_members",
+    indexes = @Index(name = "idx_project_members_user_project", columnList = "user_id, project_id"))
 public class ProjectMember extends BaseTimeEntity {
 
   @Id
@@ -1,11 +1,14 @@
 package com.hanmo.flowplan.projectMember.domain;
 
+import com.hanmo.flowplan.project.application.dto.ProjectListResponse;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,46 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
   List<ProjectMember> findAllByUser(User user);
   Optional<ProjectMember> findByUserAndProject(User user, Project project);
   boolean existsByUserAndProject(User user, Project project);
+
+  // ⭐️ 프로젝트 목록 (키셋 페이지) - 최근 수정 순, 멤버/작업 수는 프로젝트 행의 카운터 컬럼 (멤버/작업 테이블 집계 없음)
+  String PROJECT_LIST_SELECT =
+      "SELECT new com.hanmo.flowplan.project.application.dto.ProjectListResponse(" +
+          "p.id, p.projectName, p.projectType, p.startDate, p.endDate, p.memberCount, " +
+          "p.taskCount, p.todoTaskCount, p.inProgressTaskCount, p.doneTaskCount, p.updatedAt) " +
+          "FROM ProjectMember pm JOIN pm.project p JOIN pm.user u WHERE u.googleId = :googleId ";
+
+  // ⭐️ 프로젝트 목록 (전체) - 페이지 없이 같은 프로젝션/정렬
+  @Query(PROJECT_LIST_SELECT + "ORDER BY p.updatedAt DESC, p.id DESC")
+  List<ProjectListResponse> findProjectList(@Param("googleId") String googleId);
+
+  @Query(PROJECT_LIST_SELECT + "ORDER BY p.updatedAt DESC, p.id DESC")
+  List<ProjectListResponse> findProjectListFirstPage(@Param("googleId") String googleId, Pageable pageable);
+
+  @Query(PROJECT_LIST_SELECT +
+      "AND (p.updatedAt < :cursorUpdatedAt OR (p.updatedAt = :cursorUpdatedAt AND p.id < :cursorId)) " +
+      "ORDER BY p.updatedAt DESC, p.id DESC")
+  List<ProjectListResponse> findProjectListAfter(@Param("googleId") String googleId,
+                                                 @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+  // ⭐️ 토큰 프로젝트 권한 클레임용 (프로젝트 id, 멤버 id, 역할) 튜플
+  @Query("SELECT pm.project.id, pm.id, pm.projectRole FROM ProjectMember pm WHERE pm.user.id = :userId")
+  List<Object[]> findProjectRolesByUserId(@Param("userId") Long userId);
+
+  // ⭐️ 권한 검사용 - 사용자/프로젝트/멤버 조회를 조인 한 번으로 (프로젝트도 함께 로딩, 멤버가 아니면 empty)
+  @Query("SELECT pm FROM ProjectMember pm JOIN FETCH pm.project p JOIN pm.user u " +
+      "WHERE u.googleId = :googleId AND p.id = :projectId")
+  Optional<ProjectMember> findWithProjectByGoogleIdAndProjectId(@Param("googleId") String googleId,
+                                                                @Param("projectId") Long projectId);
+
+  // ⭐️ ETag 검사용 - 멤버 확인과 프로젝트 버전 조회를 인덱스 조회 한 번으로 처리 (멤버가 아니면 empty)
+  @Query("SELECT p.changeVersion FROM ProjectMember pm JOIN pm.project p JOIN pm.user u " +
+      "WHERE u.googleId = :googleId AND p.id = :projectId")
+  Optional<Long> findProjectVersionForMember(@Param("googleId") String googleId, @Param("projectId") Long projectId);
+
+  // ⭐️ 프로젝트 목록 ETag 계산용 (id, 변경 버전, 수정일) 튜플 - 엔티티/컬렉션 로딩 없음
+  @Query("SELECT p.id, p.changeVersion, p.updatedAt FROM ProjectMember pm JOIN pm.project p JOIN pm.user u " +
+      "WHERE u.googleId = :googleId ORDER BY p.id")
+  List<Object[]> findProjectVersionsByGoogleId(@Param("googleId") String googleId);
 }
@@ -0,0 +1,67 @@
+package com.hanmo.flowplan.task.application;
+
+import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 쓰기 트랜잭션 하나에서 생긴 프로젝트 작업 수 / 상태별 작업 수 증감
+ * ⭐️ 바뀐 행만 더하고 빼서 트랜잭션 끝에 프로젝트 행 UPDATE 한 번으로 반영 (작업 테이블 재집계 없음)
+ */
+final class TaskCountDelta {
+
+  private int total;
+  private final Map<TaskStatus, Integer> byStatus = new EnumMap<>(TaskStatus.class);
+
+  void add(TaskStatus status, int count) {
+    total += count;
+    byStatus.merge(status, count, Integer::sum);
+  }
+
+  void remove(TaskStatus status, int count) {
+    add(status, -count);
+  }
+
+  void change(TaskStatus from, TaskStatus to, int count) {
+    if (from == to) {
+      return;
+    }
+    byStatus.merge(from, -count, Integer::sum);
+    byStatus.merge(to, count, Integer::sum);
+  }
+
+  // 롤업으로 상태가 바뀐 부모들
+  void addRollup(List<TaskProgressUpdate> updates) {
+    for (TaskProgressUpdate update : updates) {
+      change(update.previousStatus(), update.status(), 1);
+    }
+  }
+
+  // (status, count) 집계 튜플의 작업들을 모두 삭제
+  void removeAll(List<Object[]> statusCounts) {
+    for (Object[] row : statusCounts) {
+      remove((TaskStatus) row[0], ((Number) row[1]).intValue());
+    }
+  }
+
+  // (status, count) 집계 튜플의 작업들이 모두 to 상태로 바뀜
+  void changeAll(List<Object[]> statusCounts, TaskStatus to) {
+    for (Object[] row : statusCounts) {
+      change((TaskStatus) row[0], to, ((Number) row[1]).intValue());
+    }
+  }
+
+  void applyTo(ProjectRepository projectRepository, Long projectId) {
+    int todo = byStatus.getOrDefault(TaskStatus.TODO, 0);
+    int inProgress = byStatus.getOrDefault(TaskStatus.IN_PROGRESS, 0);
+    int done = byStatus.getOrDefault(TaskStatus.DONE, 0);
+    if (total == 0 && todo == 0 && inProgress == 0 && done == 0) {
+      return; // 이름/날짜만 바뀐 경우 등 - 카운터 UPDATE 생략
+    }
+    projectRepository.adjustTaskCounts(projectId, total, todo, inProgress, done);
+  }
+}
@@ -0,0 +1,74 @@
+package com.hanmo.flowplan.task.application;
+
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * path 컬럼 추가 이전에 저장된 작업들의 조상 경로를 채워 넣습니다. (기동 시 1회)
+ * ⭐️ 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 끝까지 실행하고, 프로젝트 단위로 커밋합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPathBackfill implements SmartInitializingSingleton {
+
+  private final TaskRepository taskRepository;
+  private final TaskJdbcRepository taskJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    backfill();
+  }
+
+  public void backfill() {
+    List<Long> projectIds = taskRepository.findProjectIdsWithoutPath();
+
+    for (Long projectId : projectIds) {
+      transactionTemplate.executeWithoutResult(status -> backfillProject(projectId));
+    }
+  }
+
+  private void backfillProject(Long projectId) {
+    Map<Long, Long> parentOf = new HashMap<>();
+    for (Object[] row : taskRepository.findProgressTuplesByProjectId(projectId)) {
+      parentOf.put(((Number) row[0]).longValue(), row[1] != null ? ((Number) row[1]).longValue() : null);
+    }
+    taskJdbcRepository.batchUpdatePath(buildPaths(parentOf));
+    log.info("Backfilled task paths for project ID: {} ({} tasks)", projectId, parentOf.size());
+  }
+
+  private Map<Long, String> buildPaths(Map<Long, Long> parentOf) {
+    Map<Long, String> paths = new HashMap<>();
+
+    for (Long id : parentOf.keySet()) {
+      // 경로가 정해진 조상을 만날 때까지 올라갔다가, 내려오면서 경로를 채움
+      Deque<Long> chain = new ArrayDeque<>();
+      Long current = id;
+      while (current != null && !paths.containsKey(current) && chain.size() <= parentOf.size()) {
+        chain.push(current);
+        current = parentOf.get(current);
+      }
+
+      String prefix = (current != null && paths.containsKey(current)) ? paths.get(current) + current + "/" : Task.ROOT_PATH;
+      while (!chain.isEmpty()) {
+        Long node = chain.pop();
+        paths.put(node, prefix);
+        prefix = prefix + node + "/";
+      }
+    }
+    return paths;
+  }
+}
@@ -0,0 +1,178 @@
+package com.hanmo.flowplan.task.application;
+
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ⭐️ 부모 진행률 상향 계산 (Single-pass Rollup)
+ *
+ * 1. 프로젝트의 (id, parent_id, progress, version, status) 튜플을 한 번에 읽어 원시 배열 트리로 구성
+ * 2. 변경된 부모부터 루트까지의 조상 체인만 메모리에서 재계산
+ * 3. 값이 바뀐 부모들만 한 번의 배치 UPDATE로 저장
+ *    (id 오름차순으로 갱신 - 동시 롤업끼리 항상 같은 순서로 행 잠금을 잡아 교착 상태 방지,
+ *     읽은 시점 이후 다른 트랜잭션이 바꾼 부모가 있으면 낙관적 락 예외 -> 상위에서 재시도)
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskProgressRollup {
+
+  private final TaskRepository taskRepository;
+  private final TaskJdbcRepository taskJdbcRepository;
+
+  /**
+   * parentId 작업부터 위로 진행률을 다시 계산합니다.
+   *
+   * @param changeVersion 값이 바뀐 부모 작업에 기록할 프로젝트 변경 버전
+   * @return 실제로 값이 바뀐 부모 작업 목록 (기존 상태 포함 - 호출 측에서 프로젝트 상태별 작업 수 증감에 사용)
+   */
+  public List<TaskProgressUpdate> rollUpFrom(Long projectId, Long parentId, long changeVersion) {
+    if (parentId == null) {
+      return List.of();
+    }
+
+    ProgressTree tree = ProgressTree.of(taskRepository.findProgressTuplesByProjectId(projectId));
+    List<TaskProgressUpdate> updates = tree.recomputeAncestors(parentId);
+
+    taskJdbcRepository.batchUpdateProgress(updates, changeVersion);
+    return updates;
+  }
+
+  /**
+   * id 오름차순으로 정렬된 원시 배열 기반 트리 (엔티티/박싱 없음)
+   */
+  static final class ProgressTree {
+
+    private final long[] ids;        // 정렬된 task id
+    private final int[] parentIndex; // 부모의 배열 인덱스 (없으면 -1)
+    private final int[] progress;
+    private final long[] versions;   // 낙관적 락 버전
+    private final TaskStatus[] statuses;
+    private final int[] childStart;  // childIndex 내 자식 구간 시작 위치 (CSR)
+    private final int[] childIndex;
+
+    private ProgressTree(long[] ids, int[] parentIndex, int[] progress, long[] versions, TaskStatus[] statuses) {
+      this.ids = ids;
+      this.parentIndex = parentIndex;
+      this.progress = progress;
+      this.versions = versions;
+      this.statuses = statuses;
+
+      int n = ids.length;
+      this.childStart = new int[n + 1];
+      for (int p : parentIndex) {
+        if (p >= 0) {
+          childStart[p + 1]++;
+        }
+      }
+      for (int i = 0; i < n; i++) {
+        childStart[i + 1] += childStart[i];
+      }
+      this.childIndex = new int[childStart[n]];
+      int[] cursor = Arrays.copyOf(childStart, n);
+      for (int i = 0; i < n; i++) {
+        int p = parentIndex[i];
+        if (p >= 0) {
+          childIndex[cursor[p]++] = i;
+        }
+      }
+    }
+
+    static ProgressTree of(List<Object[]> tuples) {
+      int n = tuples.size();
+      long[] ids = new long[n];
+      long[] parentIds = new long[n];
+      int[] progress = new int[n];
+      long[] versions = new long[n];
+      TaskStatus[] statuses = new TaskStatus[n];
+
+      for (int i = 0; i < n; i++) {
+        Object[] row = tuples.get(i);
+        ids[i] = ((Number) row[0]).longValue();
+        parentIds[i] = (row[1] != null) ? ((Number) row[1]).longValue() : -1L;
+        progress[i] = ((Number) row[2]).intValue();
+        versions[i] = ((Number) row[3]).longValue();
+        statuses[i] = (TaskStatus) row[4];
+      }
+
+      // 쿼리가 id 순으로 정렬해주지만, 이진 탐색을 위해 한 번 더 보장
+      if (!isSorted(ids)) {
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+        long[] sortedIds = new long[n];
+        long[] sortedParents = new long[n];
+        int[] sortedProgress = new int[n];
+        long[] sortedVersions = new long[n];
+        TaskStatus[] sortedStatuses = new TaskStatus[n];
+        for (int i = 0; i < n; i++) {
+          sortedIds[i] = ids[order[i]];
+          sortedParents[i] = parentIds[order[i]];
+          sortedProgress[i] = progress[order[i]];
+          sortedVersions[i] = versions[order[i]];
+          sortedStatuses[i] = statuses[order[i]];
+        }
+        return of(sortedIds, sortedParents, sortedProgress, sortedVersions, sortedStatuses);
+      }
+      return of(ids, parentIds, progress, versions, statuses);
+    }
+
+    private static ProgressTree of(long[] ids, long[] parentIds, int[] progress, long[] versions,
+                                   TaskStatus[] statuses) {
+      int[] parentIndex = new int[ids.length];
+      for (int i = 0; i < ids.length; i++) {
+        parentIndex[i] = (parentIds[i] < 0) ? -1 : Math.max(-1, Arrays.binarySearch(ids, parentIds[i]));
+      }
+      return new ProgressTree(ids, parentIndex, progress, versions, statuses);
+    }
+
+    private static boolean isSorted(long[] ids) {
+      for (int i = 1; i < ids.length; i++) {
+        if (ids[i - 1] > ids[i]) return false;
+      }
+      return true;
+    }
+
+    /**
+     * 시작 작업부터 루트까지 자식 평균으로 진행률을 재계산합니다.
+     * 값이 변하지 않는 조상을 만나면 그 위도 변하지 않으므로 중단합니다.
+     */
+    List<TaskProgressUpdate> recomputeAncestors(long startId) {
+      List<TaskProgressUpdate> updates = new ArrayList<>();
+      int node = Arrays.binarySearch(ids, startId);
+
+      // 순환 참조 방어: 최대 노드 수만큼만 올라감
+      for (int guard = 0; node >= 0 && guard < ids.length; guard++) {
+        int from = childStart[node];
+        int to = childStart[node + 1];
+        if (from == to) break; // 자식이 없으면 계산 대상 아님
+
+        long sum = 0;
+        for (int c = from; c < to; c++) {
+          sum += progress[childIndex[c]];
+        }
+        int avgProgress = (int) Math.round((double) sum / (to - from));
+
+        if (avgProgress == progress[node]) break;
+
+        progress[node] = avgProgress;
+        TaskProgressUpdate update = TaskProgressUpdate.of(ids[node], avgProgress, versions[node], statuses[node]);
+        statuses[node] = update.status();
+        updates.add(update);
+        node = parentIndex[node];
+      }
+
+      // 갱신(행 잠금) 순서를 id 오름차순으로 고정
+      updates.sort(Comparator.comparing(TaskProgressUpdate::taskId));
+      return updates;
+    }
+  }
+}
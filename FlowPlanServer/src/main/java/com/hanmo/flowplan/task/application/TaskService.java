@@ -1,32 +1,47 @@
 package com.hanmo.flowplan.task.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.task.application.validator.TaskValidator;
 import com.hanmo.flowplan.task.domain.Task;
 import com.hanmo.flowplan.task.domain.TaskRepository;
 import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.domain.TaskTombstoneRepository;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
 import com.hanmo.flowplan.task.presentation.dto.CreateTaskRequestDto;
 import com.hanmo.flowplan.task.presentation.dto.ProjectWithTasksResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskDeltaResponseDto;
 import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
 import com.hanmo.flowplan.task.presentation.dto.UpdateTaskRequestDto;
 import com.hanmo.flowplan.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -35,8 +50,17 @@ public class TaskService {
 
   private final ProjectRepository projectRepository;
   private final TaskRepository taskRepository;
+  private final TaskTombstoneRepository taskTombstoneRepository;
+  private final ProjectMemberRepository projectMemberRepository;
   private final ProjectMemberValidator projectMemberValidator;
   private final TaskValidator taskValidator;
+  private final TaskProgressRollup taskProgressRollup;
+  private final TaskTreeCache taskTreeCache;
+  private final TaskJdbcRepository taskJdbcRepository;
+  private final ObjectMapper objectMapper;
+
+  // NDJSON 내보내기 시 이 행 수마다 클라이언트로 flush
+  private static final int EXPORT_FLUSH_INTERVAL = 500;
 
   // AI 응답으로 WBS 저장 (내부 로직)
   @Transactional
@@ -47,6 +71,8 @@ public class TaskService {
       return;
     }
 
+    long changeVersion = touchProject(project.getId());
+
     // 1. (1-Pass: 엔티티 생성 및 저장)
     Map<String, Task> taskMap = new HashMap<>();
     List<Task> allTasks = new ArrayList<>();
@@ -62,6 +88,7 @@ public class TaskService {
           .assignee(null) // 실제 담당자는 null
           .recommendedRole(dto.assignee()) // AI 추천 역할 저장
           .build();
+      task.stampChange(changeVersion);
 
       taskMap.put(dto.taskId(), task);
       allTasks.add(task);
@@ -81,10 +108,20 @@ public class TaskService {
         }
       }
     }
-    // 3. 일괄 저장 (Cascade 옵션 없이도 JPA가 알아서 순서 맞춰 저장함)
-    taskRepository.saveAll(allTasks);
+    // 3. 부모 -> 자식 순서로 영속화 (id는 미리 할당된 블록에서 받으므로 INSERT 없이 경로까지 확정)
+    for (Task task : orderParentsFirst(allTasks)) {
+      task.assignPath();
+      taskRepository.save(task);
+    }
+    // 4. 한 번에 flush -> JDBC 배치 INSERT
+    taskRepository.flush();
 
-    projectRepository.updateLastModifiedDate(project.getId());
+    TaskCountDelta counts = new TaskCountDelta();
+    for (Task task : allTasks) {
+      counts.add(task.getStatus(), 1);
+    }
+    counts.applyTo(projectRepository, project.getId());
+    taskTreeCache.evictAfterCommit(project.getId());
   }
 
   // 1. 작업 목록 조회 (최소 VIEWER 권한 필요)
@@ -94,17 +131,24 @@ public class TaskService {
     ProjectMember member = projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER);
     Project project = member.getProject();
 
-    List<Task> allTasks = taskRepository.findAllByProjectId(project.getId());
-
-    List<TaskFlatResponseDto> taskDtos = allTasks.stream()
-        .map(TaskFlatResponseDto::from)
-        .collect(Collectors.toList());
+    // 작업 목록(버전이 같으면 캐시, 아니면 프로젝션 1회) - 멤버 수는 프로젝트 행의 카운터 사용
+    List<TaskFlatResponseDto> taskDtos = taskTreeCache.getTasks(project.getId(), project.getChangeVersion(),
+        () -> taskRepository.findFlatByProjectId(project.getId()));
 
     return ProjectWithTasksResponseDto.of(project, taskDtos);
   }
 
+  // 1-2. 작업 목록 ETag용 버전 조회
+  // 멤버 확인 + 버전 조회를 인덱스 조회 한 번으로 처리 (멤버가 아니면 empty -> 전체 조회 경로에서 예외 처리)
+  @Transactional(readOnly = true)
+  public Optional<Long> findBoardVersion(Long projectId, String userId) {
+    return projectMemberRepository.findProjectVersionForMember(userId, projectId);
+  }
+
   // 2. 신규 작업 생성 (최소 EDITOR 권한 필요)
-  @Transactional
+  // ⭐️ 작업 쓰기는 READ_COMMITTED: touchProject 의 프로젝트 행 잠금 이후 롤업이 "최신 커밋" 기준으로 계산되도록
+  // (REPEATABLE_READ 면 잠금 전에 만들어진 스냅샷으로 계산해 다른 요청의 결과를 덮어쓸 수 있음)
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public TaskFlatResponseDto createTask(Long projectId, CreateTaskRequestDto dto, String userId) {
     // 권한 검증 (EDITOR 이상)
     ProjectMember member = projectMemberValidator.validatePermission(userId, projectId, ProjectRole.EDITOR);
@@ -117,6 +161,7 @@ public class TaskService {
       statusEnum = TaskStatus.TODO;
     }
 
+    long changeVersion = touchProject(project.getId());
 
     Task task = Task.builder()
         .project(project)
@@ -129,97 +174,209 @@ public class TaskService {
         .progress(dto.progress())
         .recommendedRole(null)
         .build();
+    task.assignPath();
+    task.stampChange(changeVersion);
 
     Task savedTask = taskRepository.save(task);
+    TaskCountDelta counts = new TaskCountDelta();
+    counts.add(savedTask.getStatus(), 1);
 
     // 하위 작업 생성 시 부모 진행률 재계산
     if (savedTask.getParent() != null) {
       taskRepository.flush();
-      calculateParentProgress(savedTask.getParent());
+      counts.addRollup(taskProgressRollup.rollUpFrom(project.getId(), savedTask.getParent().getId(), changeVersion));
     }
-    project.updateLastModifiedDate();
+    counts.applyTo(projectRepository, project.getId());
+    taskTreeCache.evictAfterCommit(project.getId());
 
     return TaskFlatResponseDto.from(savedTask);
   }
 
   // 3. 작업 수정 (최소 EDITOR 권한 필요)
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public TaskFlatResponseDto updateTask(Long taskId, UpdateTaskRequestDto dto, String userId) {
 
     Task task = taskValidator.validateAndGetTask(taskId);
 
     // 권한 검증 (EDITOR 이상)
     Project project = task.getProject();
-    projectMemberValidator.validatePermission(userId, project.getId(), ProjectRole.EDITOR);
+    projectMemberValidator.checkPermission(userId, project.getId(), ProjectRole.EDITOR);
 
     User newAssignee = taskValidator.validateAndGetAssignee(project, dto.assigneeEmail());
     TaskStatus newStatus = convertStatus(dto.status());
 
+    long changeVersion = touchProject(project.getId());
+
     boolean hasChildren = taskRepository.existsByParentId(task.getId());
+    TaskStatus previousStatus = task.getStatus();
     task.update(dto, newAssignee, newStatus, hasChildren);
+    task.stampChange(changeVersion);
 
-    // 상태 및 진행률 전파 로직
-    if (task.getStatus() == TaskStatus.DONE) {
-      propagateDownToChildren(task);
+    TaskCountDelta counts = new TaskCountDelta();
+    counts.change(previousStatus, task.getStatus(), 1);
+
+    // 상태 및 진행률 전파 로직 (하위 트리 전체를 UPDATE 한 번으로 완료 처리)
+    // 완료로 바뀌는 하위 작업 수는 UPDATE 직전에 상태별로 집계 (프로젝트 행 잠금 이후라 그대로 반영됨)
+    if (task.getStatus() == TaskStatus.DONE && hasChildren) {
+      counts.changeAll(taskRepository.countStatusesUnder(project.getId(), task.getSubtreePath()), TaskStatus.DONE);
+      taskRepository.markSubtreeDone(project.getId(), task.getSubtreePath(), changeVersion);
     }
+    taskRepository.saveAndFlush(task);
+
     if (task.getParent() != null) {
-      calculateParentProgress(task.getParent());
+      counts.addRollup(taskProgressRollup.rollUpFrom(project.getId(), task.getParent().getId(), changeVersion));
     }
-
-    taskRepository.saveAndFlush(task);
-    projectRepository.updateLastModifiedDate(project.getId());
+    counts.applyTo(projectRepository, project.getId());
+    taskTreeCache.evictAfterCommit(project.getId());
 
     return TaskFlatResponseDto.from(task);
   }
 
   // 4. 작업 삭제 (최소 EDITOR 권한 필요)
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void deleteTask(Long taskId, String userId) {
 
     Task task = taskValidator.validateAndGetTask(taskId);
 
     // 권한 검증 (EDITOR 이상)
-    projectMemberValidator.validatePermission(userId, task.getProject().getId(), ProjectRole.EDITOR);
+    projectMemberValidator.checkPermission(userId, task.getProject().getId(), ProjectRole.EDITOR);
 
+    Long projectId = task.getProject().getId();
     Task parent = task.getParent();
+    long changeVersion = touchProject(projectId);
 
-    taskRepository.delete(task);
-    taskRepository.flush();
+    // 삭제될 작업의 상태별 개수 -> 삭제 기록(tombstone)을 남긴 뒤 하위 트리까지 DELETE 한 번으로 삭제
+    TaskCountDelta counts = new TaskCountDelta();
+    counts.removeAll(taskRepository.countStatusesInSubtree(projectId, task.getId(), task.getSubtreePath()));
+    taskTombstoneRepository.insertForSubtree(projectId, task.getId(), task.getSubtreePath(), changeVersion);
+    taskRepository.deleteSubtree(projectId, task.getId(), task.getSubtreePath());
 
     // 삭제 후 부모 진행률 재계산
     if (parent != null) {
-      calculateParentProgress(parent);
+      counts.addRollup(taskProgressRollup.rollUpFrom(projectId, parent.getId(), changeVersion));
     }
+    counts.applyTo(projectRepository, projectId);
+    taskTreeCache.evictAfterCommit(projectId);
+  }
 
-    projectRepository.updateLastModifiedDate(task.getProject().getId());
+  // 1-1. 델타 동기화 조회 (최소 VIEWER 권한 필요)
+  // since 버전 이후 생성/수정된 작업과 삭제된 작업 id만 반환합니다.
+  @Transactional(readOnly = true)
+  public TaskDeltaResponseDto getTaskChangesSince(Long projectId, long since, String userId) {
+    // 권한 검증 (VIEWER 이상)
+    ProjectMember member = projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER);
+    long version = member.getProject().getChangeVersion();
+
+    if (since >= version) {
+      return TaskDeltaResponseDto.of(projectId, version, List.of(), List.of());
+    }
+    // 삭제 기록이 보존 기간 정리로 지워진 구간이면 불완전한 델타 대신 전체 재조회 요청
+    if (since < member.getProject().getTombstoneHorizon()) {
+      return TaskDeltaResponseDto.fullResyncRequired(projectId, version);
+    }
+
+    List<TaskFlatResponseDto> upserted = taskRepository.findFlatChangedSince(projectId, since);
+    List<Long> deletedIds = taskTombstoneRepository.findTaskIdsDeletedSince(projectId, since);
+
+    return TaskDeltaResponseDto.of(projectId, version, upserted, deletedIds);
   }
 
-  // --- Helper Methods ---
+  // 5. 하위 트리 조회 (최소 VIEWER 권한 필요)
+  @Transactional(readOnly = true)
+  public List<TaskFlatResponseDto> getSubtree(Long taskId, String userId) {
 
-  private void propagateDownToChildren(Task parent) {
-    List<Task> children = taskRepository.findAllByParentId(parent.getId());
+    Task task = taskValidator.validateAndGetTask(taskId);
 
-    for (Task child : children) {
-      child.forceDone(); // 상태 DONE, 진행률 100%
-      propagateDownToChildren(child); // 재귀 호출
-    }
-    taskRepository.saveAll(children);
+    // 권한 검증 (VIEWER 이상)
+    Long projectId = task.getProject().getId();
+    projectMemberValidator.checkPermission(userId, projectId, ProjectRole.VIEWER);
+
+    return taskRepository.findFlatSubtree(projectId, task.getId(), task.getSubtreePath());
   }
 
-  private void calculateParentProgress(Task parent) {
-    List<Task> children = taskRepository.findAllByParentId(parent.getId());
+  // 6. 간트 뷰포트 조회 (최소 VIEWER 권한 필요)
+  // [from, to] 기간과 겹치는 작업 + 그 조상 작업들(트리 맥락)만 반환합니다.
+  @Transactional(readOnly = true)
+  public List<TaskFlatResponseDto> getTasksInWindow(Long projectId, String userId, String from, String to) {
+    LocalDate fromDate = parseWindowDate(from);
+    LocalDate toDate = parseWindowDate(to);
+    if (fromDate.isAfter(toDate)) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회 시작일이 종료일보다 늦습니다.");
+    }
 
-    if (children.isEmpty()) return;
+    projectMemberValidator.checkPermission(userId, projectId, ProjectRole.VIEWER);
 
-    double sum = children.stream().mapToInt(Task::getProgress).sum();
-    int avgProgress = (int) Math.round(sum / children.size());
+    List<Object[]> visible = taskRepository.findIdAndPathOverlapping(projectId, fromDate, toDate);
+    if (visible.isEmpty()) {
+      return List.of();
+    }
 
-    parent.updateProgressFromChildren(avgProgress);
-    taskRepository.save(parent);
+    // 보이는 작업 id + 경로("/1/5/")에 담긴 조상 id를 모아 한 번에 조회
+    Set<Long> ids = new HashSet<>();
+    for (Object[] row : visible) {
+      ids.add((Long) row[0]);
+      String path = (String) row[1];
+      if (path == null) {
+        continue;
+      }
+      for (String ancestorId : path.split("/")) {
+        if (!ancestorId.isEmpty()) {
+          ids.add(Long.valueOf(ancestorId));
+        }
+      }
+    }
 
-    if (parent.getParent() != null) {
-      calculateParentProgress(parent.getParent());
+    return taskRepository.findFlatByIds(projectId, ids);
+  }
+
+  // 7. 작업 전체 스트리밍 내보내기 (최소 VIEWER 권한 필요)
+  // 권한 검증은 응답 전에 끝내고, 본문은 DB 커서에서 한 줄(JSON 1개)씩 바로 흘려보냅니다.
+  public StreamingResponseBody exportTasksAsNdjson(Long projectId, String userId) {
+    projectMemberValidator.checkPermission(userId, projectId, ProjectRole.VIEWER);
+
+    return outputStream -> {
+      BufferedOutputStream out = new BufferedOutputStream(outputStream);
+      int[] written = {0};
+      try {
+        taskJdbcRepository.streamFlatTasks(projectId, dto -> {
+          try {
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write('\n');
+            if (++written[0] % EXPORT_FLUSH_INTERVAL == 1) {
+              out.flush(); // 첫 행과 일정 간격마다 전송 (TTFB 단축)
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      out.flush();
+    };
+  }
+
+  // --- Helper Methods ---
+
+  // 프로젝트 수정일 갱신 + 변경 버전 증가 후, 이번 변경에 기록할 새 버전을 반환
+  private long touchProject(Long projectId) {
+    projectRepository.updateLastModifiedDate(projectId);
+    return projectRepository.findChangeVersionById(projectId);
+  }
+
+  // 부모가 항상 자식보다 먼저 오도록 깊이 순 정렬 (AI 응답 순서와 무관하게)
+  private List<Task> orderParentsFirst(List<Task> tasks) {
+    Map<Task, Integer> depth = new HashMap<>();
+    for (Task task : tasks) {
+      int d = 0;
+      for (Task p = task.getParent(); p != null && d <= tasks.size(); p = p.getParent()) {
+        d++;
+      }
+      depth.put(task, d);
     }
+    List<Task> ordered = new ArrayList<>(tasks);
+    ordered.sort(Comparator.comparingInt(depth::get));
+    return ordered;
   }
 
   private LocalDate parseDate(String dateString) {
@@ -236,6 +393,17 @@ public class TaskService {
     }
   }
 
+  private LocalDate parseWindowDate(String dateString) {
+    if (dateString == null || dateString.isBlank()) {
+      throw new BusinessException(ErrorCode.MISSING_PARAMETER);
+    }
+    try {
+      return LocalDate.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE);
+    } catch (Exception e) {
+      throw new BusinessException(ErrorCode.INVALID_DATE_FORMAT);
+    }
+  }
+
   private TaskStatus convertStatus(String statusString) {
     if (statusString == null || statusString.isBlank()) {
       return null; // ⭐️ 수정: 값이 없으면 null 반환 (변경 안 함)
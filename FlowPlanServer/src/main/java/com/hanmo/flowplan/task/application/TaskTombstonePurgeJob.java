@@ -0,0 +1,48 @@
+package com.hanmo.flowplan.task.application;
+
+import com.hanmo.flowplan.task.infrastructure.TaskTombstoneJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 작업 삭제 기록(task_tombstones) 보존 기간 정리
+ *
+ * - retention-days 가 지난 기록을 batch-size 개씩 나눠 삭제 (긴 잠금 방지)
+ * - 정리한 구간은 프로젝트별 tombstone_horizon 에 남겨서, 그보다 오래된 since 의 델타 요청은 전체 재조회로 응답
+ */
+@Slf4j
+@Component
+public class TaskTombstonePurgeJob {
+
+  private final TaskTombstoneJdbcRepository taskTombstoneJdbcRepository;
+  private final Duration retention;
+  private final int batchSize;
+
+  public TaskTombstonePurgeJob(TaskTombstoneJdbcRepository taskTombstoneJdbcRepository,
+                               @Value("${task.tombstone.retention-days:30}") long retentionDays,
+                               @Value("${task.tombstone.purge-batch-size:1000}") int batchSize) {
+    this.taskTombstoneJdbcRepository = taskTombstoneJdbcRepository;
+    this.retention = Duration.ofDays(Math.max(1, retentionDays));
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  @Scheduled(fixedDelayString = "${task.tombstone.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+    int total = 0;
+    int purged;
+    do {
+      purged = taskTombstoneJdbcRepository.purgeBefore(cutoff, batchSize);
+      total += purged;
+    } while (purged == batchSize);
+
+    if (total > 0) {
+      log.info("Purged {} task tombstones older than {}", total, cutoff);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.hanmo.flowplan.task.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanmo.flowplan.global.common.AfterCommit;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * ⭐️ 프로젝트별 작업 목록 캐시 (읽기 >> 쓰기)
+ *
+ * 1. 엔티티가 아닌 불변 원시 배열 스냅샷(TaskSnapshot)을 프로젝트 변경 버전과 함께 저장
+ * 2. 조회 시 DB의 프로젝트 버전과 다르면 무효로 보고 다시 적재 (다른 서버의 변경도 안전)
+ * 3. 작업 변경 트랜잭션이 커밋된 뒤 해당 프로젝트 항목을 제거
+ * 4. 전체 작업 수 기준으로 크기 제한, hit/miss/eviction 은 actuator metrics(cache.*{cache=taskTree})로 노출
+ */
+@Component
+public class TaskTreeCache {
+
+  static final String CACHE_NAME = "taskTree";
+
+  private final Cache<Long, TaskSnapshot> cache;
+
+  public TaskTreeCache(@Value("${task.cache.max-tasks:200000}") long maxTasks, MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxTasks)
+        .weigher((Long projectId, TaskSnapshot snapshot) -> snapshot.size() + 1)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * version 기준으로 유효한 스냅샷이 있으면 그대로, 없으면 loader로 적재 후 저장합니다.
+   */
+  public List<TaskFlatResponseDto> getTasks(Long projectId, long version, Supplier<List<TaskFlatResponseDto>> loader) {
+    TaskSnapshot current = cache.policy().getIfPresentQuietly(projectId);
+    if (current != null && current.version() != version) {
+      cache.invalidate(projectId); // 오래된 스냅샷 -> miss 로 처리
+    }
+
+    TaskSnapshot snapshot = cache.get(projectId, id -> TaskSnapshot.of(version, loader.get()));
+    if (snapshot.version() != version) {
+      // 동시에 다른 버전이 적재된 경우 (드묾) - 캐시를 거치지 않고 직접 조회
+      return loader.get();
+    }
+    return snapshot.toDtos();
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 프로젝트 캐시를 제거합니다. (트랜잭션 밖이면 즉시)
+   */
+  public void evictAfterCommit(Long projectId) {
+    AfterCommit.run(() -> cache.invalidate(projectId));
+  }
+
+  /**
+   * 프로젝트 작업 목록의 불변 스냅샷 (열 단위 원시 배열)
+   */
+  static final class TaskSnapshot {
+
+    private static final long NO_PARENT = 0L;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final long version;
+    private final long[] ids;
+    private final long[] parentIds;
+    private final String[] names;
+    private final long[] startDays;  // LocalDate.toEpochDay()
+    private final long[] endDays;
+    private final int[] durations;
+    private final byte[] progress;
+    private final byte[] statuses;   // TaskStatus ordinal (-1 = null)
+    private final String[] assigneeEmails;
+    private final String[] assigneeNames;
+
+    private TaskSnapshot(long version, int size) {
+      this.version = version;
+      this.ids = new long[size];
+      this.parentIds = new long[size];
+      this.names = new String[size];
+      this.startDays = new long[size];
+      this.endDays = new long[size];
+      this.durations = new int[size];
+      this.progress = new byte[size];
+      this.statuses = new byte[size];
+      this.assigneeEmails = new String[size];
+      this.assigneeNames = new String[size];
+    }
+
+    static TaskSnapshot of(long version, List<TaskFlatResponseDto> tasks) {
+      TaskSnapshot snapshot = new TaskSnapshot(version, tasks.size());
+      for (int i = 0; i < tasks.size(); i++) {
+        TaskFlatResponseDto task = tasks.get(i);
+        snapshot.ids[i] = task.id();
+        snapshot.parentIds[i] = (task.parent() != null) ? task.parent() : NO_PARENT;
+        snapshot.names[i] = task.name();
+        snapshot.startDays[i] = (task.start() != null) ? task.start().toEpochDay() : NO_DATE;
+        snapshot.endDays[i] = (task.end() != null) ? task.end().toEpochDay() : NO_DATE;
+        snapshot.durations[i] = task.duration();
+        snapshot.progress[i] = (byte) task.progress();
+        snapshot.statuses[i] = (task.status() != null) ? (byte) task.status().ordinal() : -1;
+        snapshot.assigneeEmails[i] = task.assigneeEmail();
+        snapshot.assigneeNames[i] = task.assigneeName();
+      }
+      return snapshot;
+    }
+
+    long version() {
+      return version;
+    }
+
+    int size() {
+      return ids.length;
+    }
+
+    List<TaskFlatResponseDto> toDtos() {
+      List<TaskFlatResponseDto> dtos = new ArrayList<>(ids.length);
+      for (int i = 0; i < ids.length; i++) {
+        dtos.add(new TaskFlatResponseDto(
+            ids[i],
+            (parentIds[i] != NO_PARENT) ? parentIds[i] : null,
+            names[i],
+            (startDays[i] != NO_DATE) ? LocalDate.ofEpochDay(startDays[i]) : null,
+            (endDays[i] != NO_DATE) ? LocalDate.ofEpochDay(endDays[i]) : null,
+            durations[i],
+            progress[i],
+            (statuses[i] >= 0) ? STATUSES[statuses[i]] : null,
+            assigneeEmails[i],
+            assigneeNames[i]
+        ));
+      }
+      return dtos;
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.task.domain.Task;
 import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.user.application.CurrentUserContext;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class TaskValidator {
   private final TaskRepository taskRepository;
   private final UserRepository userRepository;
   private final ProjectMemberValidator projectMemberValidator; // ⭐️ 기존 검증기 재사용
+  private final CurrentUserContext currentUserContext;
 
   public Task validateAndGetTask(Long taskId) {
     return taskRepository.findById(taskId)
@@ -41,9 +43,11 @@ public class TaskValidator {
       return null;
     }
 
-    // 1. User 존재 확인 (이메일로 찾음)
-    User assignee = userRepository.findByEmail(assigneeEmail)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "할당하려는 이메일로 가입된 유저를 찾을 수 없습니다."));
+    // 1. User 존재 확인 (이메일로 찾음, 본인에게 할당하면 이번 요청에서 확인된 사용자 참조를 재사용)
+    User assignee = currentUserContext.findUserIdByEmail(assigneeEmail)
+        .map(userRepository::getReferenceById)
+        .orElseGet(() -> userRepository.findByEmail(assigneeEmail)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "할당하려는 이메일로 가입된 유저를 찾을 수 없습니다.")));
 
     // 2. Project 멤버 검증 로직 위임
     projectMemberValidator.validateMembership(assignee, project);
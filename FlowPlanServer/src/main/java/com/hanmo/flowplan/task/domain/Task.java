@@ -20,12 +20,27 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "tasks") // ERD의 테이블 이름과 일치
+@Table(name = "tasks", // ERD의 테이블 이름과 일치
+    indexes = {
+        @Index(name = "idx_tasks_project_path", columnList = "project_id, path"),
+        // 간트 차트 뷰포트(기간) 조회용
+        @Index(name = "idx_tasks_project_dates", columnList = "project_id, start_date, end_date"),
+        // 델타 동기화(since 버전 이후 변경분) 조회용
+        @Index(name = "idx_tasks_project_version", columnList = "project_id, change_version")
+    })
 @NoArgsConstructor
 public class Task extends BaseTimeEntity {
 
+  public static final String ROOT_PATH = "/";
+
+  public static final int ID_ALLOCATION_SIZE = 100;
+
+  // ⭐️ IDENTITY는 INSERT 배치가 불가능하므로, 테이블 기반 id 블록(pooled)을 미리 할당받아 사용
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+  @TableGenerator(name = "task_id_generator", table = "id_sequences",
+      pkColumnName = "sequence_name", valueColumnName = "next_val",
+      pkColumnValue = "tasks", allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -59,6 +74,20 @@ public class Task extends BaseTimeEntity {
   @Enumerated(EnumType.STRING)
   private TaskStatus status;
 
+  // ⭐️ 조상 경로 (Materialized Path): 최상위 "/", 1번의 자식 "/1/", 손자 "/1/5/"
+  // 하위 트리 전체를 "path LIKE '/1/%'" 한 번으로 조회/수정/삭제하기 위해 사용
+  @Column(length = 512)
+  private String path;
+
+  // ⭐️ 낙관적 락 - 동시에 같은 작업을 수정하면 나중 커밋이 실패 (조용히 덮어쓰지 않음)
+  @Version
+  @Column(nullable = false)
+  private long version;
+
+  // ⭐️ 마지막으로 이 작업을 변경한 프로젝트 변경 버전 (Project.changeVersion)
+  @Column(name = "change_version", nullable = false)
+  private long changeVersion;
+
   @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<Task> children = new ArrayList<>();
 
@@ -83,6 +112,38 @@ public class Task extends BaseTimeEntity {
     this.parent = parent;
   }
 
+  /**
+   * 부모 기준으로 조상 경로를 설정 (부모는 이미 id가 있어야 함)
+   */
+  public void assignPath() {
+    this.path = (parent == null) ? ROOT_PATH : parent.getSubtreePath();
+  }
+
+  // 경로가 아직 채워지지 않은(마이그레이션 이전) 작업이면 부모 체인에서 계산 ("null1/" 같은 경로가 저장되지 않도록)
+  private String resolvePath() {
+    if (path != null) {
+      return path;
+    }
+    return (parent == null) ? ROOT_PATH : parent.getSubtreePath();
+  }
+
+  /**
+   * 이 작업을 변경한 프로젝트 변경 버전 기록
+   */
+  public void stampChange(long changeVersion) {
+    this.changeVersion = changeVersion;
+  }
+
+  /**
+   * 이 작업의 하위 작업들이 공통으로 가지는 경로 접두사
+   */
+  public String getSubtreePath() {
+    if (id == null) {
+      throw new IllegalStateException("저장되지 않은 작업은 하위 경로를 가질 수 없습니다.");
+    }
+    return resolvePath() + id + "/";
+  }
+
   public void update(UpdateTaskRequestDto dto, User newAssignee, TaskStatus newStatus, boolean hasChildren) {
     // 1. 이름 수정
     if (dto.name() != null) {
@@ -127,14 +188,8 @@ public class Task extends BaseTimeEntity {
     // Case 2: 진행률을 바꿨을 때 -> 상태 자동 변경
     // (단, 상태를 DONE으로 바꿨는데 진행률을 50으로 보내는 이상한 경우는 진행률 우선으로 처리하거나 정책에 따름.
     // 여기서는 진행률에 따라 상태를 재조정합니다.)
-    if (this.progress == 100) {
-      this.status = TaskStatus.DONE;
-    } else if (this.progress == 0) {
-      this.status = TaskStatus.TODO;
-    } else {
-      // 1 ~ 99 사이면 무조건 진행중
-      this.status = TaskStatus.IN_PROGRESS;
-    }
+    // (1 ~ 99 사이면 무조건 진행중)
+    this.status = TaskStatus.fromProgress(this.progress);
   }
 
   public void forceDone() {
@@ -142,13 +197,4 @@ public class Task extends BaseTimeEntity {
     this.progress = 100;
   }
 
-  /**
-   * 진행률 강제 설정 (하위 작업 평균으로 계산될 때 호출)
-   */
-  public void updateProgressFromChildren(int calculatedProgress) {
-    this.progress = calculatedProgress;
-    // 진행률이 변했으니 상태도 다시 맞춤
-    syncStatusAndProgress(false, true);
-  }
-
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.hanmo.flowplan.task.domain;
+
+/**
+ * 진행률 롤업 결과 1건 (부모 작업의 새 진행률/상태)
+ * version 은 계산에 사용한 시점의 낙관적 락 버전 (UPDATE 시 일치해야 반영)
+ * previousStatus 는 같은 시점의 기존 상태 (프로젝트 상태별 작업 수 증감 계산용)
+ */
+public record TaskProgressUpdate(
+    Long taskId,
+    int progress,
+    TaskStatus status,
+    long version,
+    TaskStatus previousStatus
+) {
+  public static TaskProgressUpdate of(Long taskId, int progress, long version, TaskStatus previousStatus) {
+    return new TaskProgressUpdate(taskId, progress, TaskStatus.fromProgress(progress), version, previousStatus);
+  }
+}
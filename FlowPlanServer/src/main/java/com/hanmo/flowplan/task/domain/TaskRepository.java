@@ -1,13 +1,114 @@
 package com.hanmo.flowplan.task.domain;
 
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
   List<Task> findAllByProjectId(Long projectId);
 
+  // ⭐️ 보드 조회용 프로젝션 - 담당자만 LEFT JOIN, 부모 id는 FK 컬럼에서 바로 읽음 (지연 로딩 N+1 없음)
+  @Query("SELECT new com.hanmo.flowplan.task.presentation.dto.TaskFlatRow(" +
+      "t.id, t.parent.id, t.name, t.startDate, t.endDate, t.progress, t.status, a.email, a.name, t.recommendedRole) " +
+      "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId")
+  List<TaskFlatRow> findFlatRowsByProjectId(@Param("projectId") Long projectId);
+
+  default List<TaskFlatResponseDto> findFlatByProjectId(Long projectId) {
+    return toResponses(findFlatRowsByProjectId(projectId));
+  }
+
+  // ⭐️ 델타 동기화 - since 버전 이후 생성/수정된 작업
+  @Query("SELECT new com.hanmo.flowplan.task.presentation.dto.TaskFlatRow(" +
+      "t.id, t.parent.id, t.name, t.startDate, t.endDate, t.progress, t.status, a.email, a.name, t.recommendedRole) " +
+      "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId AND t.changeVersion > :since ORDER BY t.id")
+  List<TaskFlatRow> findFlatRowsChangedSince(@Param("projectId") Long projectId, @Param("since") long since);
+
+  default List<TaskFlatResponseDto> findFlatChangedSince(Long projectId, long since) {
+    return toResponses(findFlatRowsChangedSince(projectId, since));
+  }
+
+  // ⭐️ 간트 뷰포트 조회 - [from, to] 기간과 겹치는 작업의 (id, path)
+  // idx_tasks_project_dates (project_id, start_date, end_date) 범위 스캔
+  @Query("SELECT t.id, t.path FROM Task t WHERE t.project.id = :projectId " +
+      "AND t.startDate <= :to AND t.endDate >= :from")
+  List<Object[]> findIdAndPathOverlapping(@Param("projectId") Long projectId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+  @Query("SELECT new com.hanmo.flowplan.task.presentation.dto.TaskFlatRow(" +
+      "t.id, t.parent.id, t.name, t.startDate, t.endDate, t.progress, t.status, a.email, a.name, t.recommendedRole) " +
+      "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId AND t.id IN :ids ORDER BY t.id")
+  List<TaskFlatRow> findFlatRowsByIds(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+  default List<TaskFlatResponseDto> findFlatByIds(Long projectId, Collection<Long> ids) {
+    return toResponses(findFlatRowsByIds(projectId, ids));
+  }
+
   // ⭐️ 특정 부모를 가진 자식들 조회 (하향 전파, 상향 계산용)
   List<Task> findAllByParentId(Long parentId);
   boolean existsByParentId(Long parentId);
+
+  // ⭐️ 진행률 롤업용 (id, parent_id, progress, version, status) 튜플 조회 - 엔티티 로딩 없이 한 번에 가져옴
+  @Query("SELECT t.id, t.parent.id, t.progress, t.version, t.status FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+  List<Object[]> findProgressTuplesByProjectId(@Param("projectId") Long projectId);
+
+  // ⭐️ 하위 트리 조회 (자기 자신 포함) - 경로 접두사로 한 번에 조회
+  @Query("SELECT new com.hanmo.flowplan.task.presentation.dto.TaskFlatRow(" +
+      "t.id, t.parent.id, t.name, t.startDate, t.endDate, t.progress, t.status, a.email, a.name, t.recommendedRole) " +
+      "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId " +
+      "AND (t.id = :taskId OR t.path LIKE CONCAT(:subtreePath, '%'))")
+  List<TaskFlatRow> findFlatRowsInSubtree(@Param("projectId") Long projectId,
+                                          @Param("taskId") Long taskId,
+                                          @Param("subtreePath") String subtreePath);
+
+  default List<TaskFlatResponseDto> findFlatSubtree(Long projectId, Long taskId, String subtreePath) {
+    return toResponses(findFlatRowsInSubtree(projectId, taskId, subtreePath));
+  }
+
+  // ⭐️ 하위 작업 전체 완료 처리 (하향 전파) - 단일 UPDATE
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE Task t SET t.status = com.hanmo.flowplan.task.domain.TaskStatus.DONE, t.progress = 100, " +
+      "t.changeVersion = :changeVersion, t.version = t.version + 1, t.updatedAt = CURRENT_TIMESTAMP " +
+      "WHERE t.project.id = :projectId AND t.path LIKE CONCAT(:subtreePath, '%')")
+  int markSubtreeDone(@Param("projectId") Long projectId,
+                      @Param("subtreePath") String subtreePath,
+                      @Param("changeVersion") long changeVersion);
+
+  // ⭐️ 하위 작업(자기 자신 제외)의 상태별 개수 (status, count) - 하위 트리 일괄 완료 전 프로젝트 카운터 증감 계산용
+  @Query("SELECT t.status, COUNT(t) FROM Task t WHERE t.project.id = :projectId " +
+      "AND t.path LIKE CONCAT(:subtreePath, '%') GROUP BY t.status")
+  List<Object[]> countStatusesUnder(@Param("projectId") Long projectId,
+                                    @Param("subtreePath") String subtreePath);
+
+  // ⭐️ 하위 트리(자기 자신 포함)의 상태별 개수 (status, count) - 삭제 전 프로젝트 카운터 증감 계산용
+  @Query("SELECT t.status, COUNT(t) FROM Task t WHERE t.project.id = :projectId " +
+      "AND (t.id = :taskId OR t.path LIKE CONCAT(:subtreePath, '%')) GROUP BY t.status")
+  List<Object[]> countStatusesInSubtree(@Param("projectId") Long projectId,
+                                        @Param("taskId") Long taskId,
+                                        @Param("subtreePath") String subtreePath);
+
+  // ⭐️ 하위 트리 삭제 (자기 자신 포함) - 단일 DELETE
+  // parent_id 자기참조 FK 때문에 깊은 작업(긴 경로)부터 지우도록 정렬 (MySQL)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "DELETE FROM tasks WHERE project_id = :projectId " +
+      "AND (id = :taskId OR path LIKE CONCAT(:subtreePath, '%')) ORDER BY LENGTH(path) DESC",
+      nativeQuery = true)
+  int deleteSubtree(@Param("projectId") Long projectId,
+                    @Param("taskId") Long taskId,
+                    @Param("subtreePath") String subtreePath);
+
+  // 경로가 아직 없는(마이그레이션 이전) 작업 또는 경로가 잘못 저장된("null1/") 작업이 있는 프로젝트 목록
+  @Query("SELECT DISTINCT t.project.id FROM Task t WHERE t.path IS NULL OR t.path LIKE 'null%'")
+  List<Long> findProjectIdsWithoutPath();
+
+  private static List<TaskFlatResponseDto> toResponses(List<TaskFlatRow> rows) {
+    return rows.stream().map(TaskFlatRow::toResponse).toList();
+  }
 }
@@ -10,4 +10,17 @@ public enum TaskStatus {
   TaskStatus(String koreanName) {
     this.koreanName = koreanName;
   }
+
+  /**
+   * 진행률에 맞는 상태 계산 (100 -> DONE, 0 -> TODO, 그 외 -> IN_PROGRESS)
+   */
+  public static TaskStatus fromProgress(int progress) {
+    if (progress == 100) {
+      return DONE;
+    }
+    if (progress == 0) {
+      return TODO;
+    }
+    return IN_PROGRESS;
+  }
 }
@@ -0,0 +1,40 @@
+package com.hanmo.flowplan.task.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 작업 기록 (델타 동기화에서 삭제 id를 내려주기 위함)
+ * 프로젝트 삭제를 막지 않도록 FK 없이 id 값만 보관합니다.
+ * 보존 기간이 지난 기록은 TaskTombstonePurgeJob 이 정리하고, 정리한 구간은 Project.tombstoneHorizon 에 남깁니다.
+ */
+@Entity
+@Getter
+@Table(name = "task_tombstones",
+    indexes = {
+        @Index(name = "idx_task_tombstones_project_version", columnList = "project_id, change_version"),
+        // 보존 기간 정리용
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+    })
+@NoArgsConstructor
+public class TaskTombstone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  @Column(name = "task_id", nullable = false)
+  private Long taskId;
+
+  @Column(name = "change_version", nullable = false)
+  private long changeVersion;
+
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+}
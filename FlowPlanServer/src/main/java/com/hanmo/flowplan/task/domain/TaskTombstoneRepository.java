@@ -0,0 +1,25 @@
+package com.hanmo.flowplan.task.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+  // ⭐️ 하위 트리 삭제 직전, 삭제될 작업 id를 INSERT ... SELECT 한 번으로 기록
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO task_tombstones (project_id, task_id, change_version, deleted_at) " +
+      "SELECT project_id, id, :changeVersion, CURRENT_TIMESTAMP FROM tasks WHERE project_id = :projectId " +
+      "AND (id = :taskId OR path LIKE CONCAT(:subtreePath, '%'))",
+      nativeQuery = true)
+  int insertForSubtree(@Param("projectId") Long projectId,
+                       @Param("taskId") Long taskId,
+                       @Param("subtreePath") String subtreePath,
+                       @Param("changeVersion") long changeVersion);
+
+  @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.projectId = :projectId AND t.changeVersion > :since")
+  List<Long> findTaskIdsDeletedSince(@Param("projectId") Long projectId, @Param("since") long since);
+}
@@ -0,0 +1,34 @@
+package com.hanmo.flowplan.task.infrastructure;
+
+import com.hanmo.flowplan.task.domain.Task;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY -> 테이블 id 블록 전환 시, 기존 tasks.id와 겹치지 않도록 시퀀스 시작값을 맞춥니다.
+ * (스키마 생성 이후, 웹 요청을 받기 전에 실행)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TaskIdSequenceInitializer {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void alignWithExistingIds() {
+    Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+    // pooled 옵티마이저는 읽은 값에서 allocationSize만큼 아래 구간을 사용하므로 여유를 둠
+    long floor = maxId + Task.ID_ALLOCATION_SIZE + 1;
+
+    jdbcTemplate.update(
+        "INSERT INTO id_sequences (sequence_name, next_val) VALUES ('tasks', ?) " +
+            "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", floor);
+    log.info("Task id sequence aligned (max task id: {})", maxId);
+  }
+}
@@ -0,0 +1,117 @@
+package com.hanmo.flowplan.task.infrastructure;
+
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * JPA 엔티티를 거치지 않는 Task 일괄 처리용 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+  private static final String UPDATE_PROGRESS_SQL =
+      "UPDATE tasks SET progress = ?, status = ?, change_version = ?, version = version + 1, " +
+          "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND version = ?";
+
+  private static final String UPDATE_PATH_SQL = "UPDATE tasks SET path = ? WHERE id = ?";
+
+  private static final String SELECT_FLAT_TASKS_SQL =
+      "SELECT t.id, t.parent_id, t.name, t.start_date, t.end_date, t.progress, t.status, " +
+          "u.email, u.name AS assignee_name, t.recommended_role " +
+          "FROM tasks t LEFT JOIN users u ON u.id = t.assignee_id " +
+          "WHERE t.project_id = ? ORDER BY t.id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 프로젝트 작업을 forward-only 커서로 한 행씩 읽어 consumer에 전달합니다.
+   * (MySQL: fetchSize = Integer.MIN_VALUE 이면 결과 전체를 메모리에 올리지 않고 스트리밍)
+   */
+  public void streamFlatTasks(Long projectId, Consumer<TaskFlatResponseDto> consumer) {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement ps = connection.prepareStatement(SELECT_FLAT_TASKS_SQL,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(Integer.MIN_VALUE);
+      ps.setLong(1, projectId);
+      return ps;
+    }, rs -> {
+      long parentId = rs.getLong("parent_id");
+      boolean hasParent = !rs.wasNull();
+      String status = rs.getString("status");
+
+      consumer.accept(new TaskFlatRow(
+          rs.getLong("id"),
+          hasParent ? parentId : null,
+          rs.getString("name"),
+          toLocalDate(rs.getDate("start_date")),
+          toLocalDate(rs.getDate("end_date")),
+          rs.getInt("progress"),
+          (status != null) ? TaskStatus.valueOf(status) : null,
+          rs.getString("email"),
+          rs.getString("assignee_name"),
+          rs.getString("recommended_role")
+      ).toResponse());
+    });
+  }
+
+  /**
+   * 부모 작업들의 진행률/상태를 하나의 JDBC 배치 UPDATE로 반영합니다.
+   * 계산 이후 다른 트랜잭션이 먼저 바꾼 행(version 불일치)이 있으면 낙관적 락 예외를 던집니다.
+   */
+  public void batchUpdateProgress(List<TaskProgressUpdate> updates, long changeVersion) {
+    if (updates.isEmpty()) {
+      return;
+    }
+    int[][] results = jdbcTemplate.batchUpdate(UPDATE_PROGRESS_SQL, updates, updates.size(), (ps, update) -> {
+      ps.setInt(1, update.progress());
+      ps.setString(2, update.status().name());
+      ps.setLong(3, changeVersion);
+      ps.setLong(4, update.taskId());
+      ps.setLong(5, update.version());
+    });
+
+    int index = 0;
+    for (int[] batch : results) {
+      for (int count : batch) {
+        if (count == 0) {
+          throw new ObjectOptimisticLockingFailureException(Task.class, updates.get(index).taskId());
+        }
+        index++;
+      }
+    }
+  }
+
+  private static LocalDate toLocalDate(Date date) {
+    return (date != null) ? date.toLocalDate() : null;
+  }
+
+  /**
+   * 조상 경로(path)를 일괄 갱신합니다. (taskId -> path)
+   */
+  public void batchUpdatePath(Map<Long, String> paths) {
+    if (paths.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<Long, String>> entries = List.copyOf(paths.entrySet());
+    jdbcTemplate.batchUpdate(UPDATE_PATH_SQL, entries, entries.size(), (ps, entry) -> {
+      ps.setString(1, entry.getValue());
+      ps.setLong(2, entry.getKey());
+    });
+  }
+}
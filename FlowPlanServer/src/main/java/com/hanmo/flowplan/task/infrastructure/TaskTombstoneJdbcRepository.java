@@ -0,0 +1,65 @@
+package com.hanmo.flowplan.task.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제 기록(task_tombstones) 보존 기간 정리용 JDBC 리포지토리
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskTombstoneJdbcRepository {
+
+  // 보존 기간이 지난 기록을 오래된 순(id 순)으로 limit 개
+  private static final String SELECT_EXPIRED_SQL =
+      "SELECT id, project_id, change_version FROM task_tombstones WHERE deleted_at < ? ORDER BY id LIMIT ?";
+
+  // ⭐️ 지우기 전에 프로젝트별 정리 구간(horizon)을 먼저 올림 - 델타 조회가 빠진 삭제 기록을 완전한 결과로 착각하지 않도록
+  private static final String UPDATE_HORIZON_SQL =
+      "UPDATE projects SET tombstone_horizon = GREATEST(tombstone_horizon, ?) WHERE id = ?";
+
+  // id 는 증가만 하므로 "조회한 마지막 id 이하 + 보존 기간 지남" = 조회한 기록
+  private static final String DELETE_UP_TO_SQL =
+      "DELETE FROM task_tombstones WHERE id <= ? AND deleted_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * cutoff 이전에 남은 삭제 기록을 최대 limit 개 삭제합니다.
+   * 삭제 전에 해당 프로젝트의 tombstone_horizon 을 지우는 기록의 최대 변경 버전까지 올립니다.
+   *
+   * @return 조회한(삭제 대상) 기록 수 - limit 보다 작으면 더 지울 기록이 없음
+   */
+  public int purgeBefore(LocalDateTime cutoff, int limit) {
+    Timestamp before = Timestamp.valueOf(cutoff);
+    List<long[]> expired = jdbcTemplate.query(SELECT_EXPIRED_SQL,
+        (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("project_id"), rs.getLong("change_version")},
+        before, limit);
+    if (expired.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, Long> horizons = new HashMap<>();
+    for (long[] row : expired) {
+      horizons.merge(row[1], row[2], Math::max);
+    }
+    List<Map.Entry<Long, Long>> entries = new ArrayList<>(horizons.entrySet());
+    entries.sort(Map.Entry.comparingByKey()); // 프로젝트 행 잠금 순서 고정
+    jdbcTemplate.batchUpdate(UPDATE_HORIZON_SQL, entries, entries.size(), (ps, entry) -> {
+      ps.setLong(1, entry.getValue());
+      ps.setLong(2, entry.getKey());
+    });
+
+    long lastId = expired.get(expired.size() - 1)[0];
+    jdbcTemplate.update(DELETE_UP_TO_SQL, lastId, before);
+    return expired.size();
+  }
+}
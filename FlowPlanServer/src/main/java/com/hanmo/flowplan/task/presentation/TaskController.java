@@ -1,21 +1,29 @@
 package com.hanmo.flowplan.task.presentation;
 
 import com.hanmo.flowplan.global.annotation.CurrentUserId;
+import com.hanmo.flowplan.global.retry.OptimisticLockRetryExecutor;
 import com.hanmo.flowplan.task.application.TaskService;
 // ⭐️ 1. DTO 클래스들을 import 합니다.
 import com.hanmo.flowplan.task.presentation.dto.CreateTaskRequestDto;
 import com.hanmo.flowplan.task.presentation.dto.ProjectWithTasksResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskDeltaResponseDto;
 import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
 import com.hanmo.flowplan.task.presentation.dto.UpdateTaskRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Task API", description = "프로젝트 WBS 태스크 관리 API") // ⭐️ API 그룹 명시
 @RestController
@@ -24,16 +32,61 @@ import java.util.List;
 public class TaskController {
 
   private final TaskService taskService;
+  private final OptimisticLockRetryExecutor retryExecutor;
 
   @Operation(summary = "프로젝트 태스크 전체 조회", description = "특정 프로젝트에 속한 모든 태스크 리스트로 조회합니다.")
   @GetMapping("/projects/{projectId}/tasks")
   public ResponseEntity<ProjectWithTasksResponseDto> getTasks(@PathVariable Long projectId,
-                                                            @CurrentUserId String userId) {
+                                                            @CurrentUserId String userId,
+                                                            WebRequest webRequest) {
+    // ⭐️ 재검증 요청(If-None-Match)일 때만 버전을 먼저 확인해서, 그대로면 작업을 조회하지 않고 304 반환
+    // (첫 조회는 버전 조회 없이 바로 전체 조회 - ETag 는 응답의 version 으로 만듦)
+    if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      Optional<String> eTag = taskService.findBoardVersion(projectId, userId)
+          .map(version -> boardETag(projectId, version));
+      if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(eTag.get())
+            .cacheControl(CacheControl.noCache())
+            .build();
+      }
+    }
+
     // TaskService에 권한 검증 및 조회를 위임
     ProjectWithTasksResponseDto tasks = taskService.getProjectWithTasks(projectId, userId);
-    return ResponseEntity.ok(tasks);
+    return ResponseEntity.ok()
+        .eTag(boardETag(projectId, tasks.version()))
+        .cacheControl(CacheControl.noCache()) // 보관은 하되 매번 If-None-Match 로 재검증
+        .body(tasks);
+  }
+
+  @Operation(summary = "변경된 태스크만 조회 (델타 동기화)", description = "since 버전 이후 생성/수정된 태스크와 삭제된 태스크 id만 조회합니다. 응답의 version 을 다음 요청의 since 로 사용합니다. " +
+      "fullResyncRequired 가 true 면 삭제 기록 보존 기간이 지난 버전이므로 전체 태스크 목록을 다시 조회해야 합니다.")
+  @GetMapping(value = "/projects/{projectId}/tasks", params = "since")
+  public ResponseEntity<TaskDeltaResponseDto> getTaskChanges(@PathVariable Long projectId,
+                                                             @RequestParam long since,
+                                                             @CurrentUserId String userId) {
+    return ResponseEntity.ok(taskService.getTaskChangesSince(projectId, since, userId));
+  }
+
+  @Operation(summary = "기간별 태스크 조회 (간트 뷰포트)", description = "[from, to] 기간과 겹치는 태스크와 그 상위 태스크만 조회합니다. (YYYY-MM-DD)")
+  @GetMapping("/projects/{projectId}/tasks/window")
+  public ResponseEntity<List<TaskFlatResponseDto>> getTasksInWindow(@PathVariable Long projectId,
+                                                                    @RequestParam String from,
+                                                                    @RequestParam String to,
+                                                                    @CurrentUserId String userId) {
+    return ResponseEntity.ok(taskService.getTasksInWindow(projectId, userId, from, to));
   }
 
+  @Operation(summary = "프로젝트 태스크 스트리밍 내보내기", description = "대용량 프로젝트용. 태스크를 한 줄에 하나씩(NDJSON) 메모리 적재 없이 스트리밍합니다.")
+  @GetMapping(value = "/projects/{projectId}/tasks/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable Long projectId,
+                                                           @CurrentUserId String userId) {
+    StreamingResponseBody body = taskService.exportTasksAsNdjson(projectId, userId);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
 
   @Operation(summary = "태스크 생성", description = "특정 프로젝트 내에 새로운 태스크를 생성합니다.")
   @PostMapping("/projects/{projectId}/tasks")
@@ -41,7 +94,8 @@ public class TaskController {
                                                         @RequestBody CreateTaskRequestDto requestDto,
                                                         @CurrentUserId String userId) {
     // TaskService에 권한 검증, 생성, 저장을 위임
-    TaskFlatResponseDto createdTask = taskService.createTask(projectId, requestDto, userId);
+    // 동시 수정 충돌 시 새 트랜잭션으로 재시도
+    TaskFlatResponseDto createdTask = retryExecutor.execute(() -> taskService.createTask(projectId, requestDto, userId));
 
     // ⭐️ HTTP 201 Created 응답 반환
     return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
@@ -53,18 +107,30 @@ public class TaskController {
                                                         @RequestBody UpdateTaskRequestDto requestDto,
                                                         @CurrentUserId String userId) {
     // TaskService에 권한 검증 및 수정을 위임
-    TaskFlatResponseDto updatedTask = taskService.updateTask(taskId, requestDto, userId);
+    TaskFlatResponseDto updatedTask = retryExecutor.execute(() -> taskService.updateTask(taskId, requestDto, userId));
     return ResponseEntity.ok(updatedTask);
   }
 
-  @Operation(summary = "태스크 삭제", description = "특정 태스크를 삭제합니다.")
+  @Operation(summary = "하위 트리 조회", description = "특정 태스크와 그 아래 모든 하위 태스크를 조회합니다.")
+  @GetMapping("/{taskId}/subtree")
+  public ResponseEntity<List<TaskFlatResponseDto>> getSubtree(@PathVariable Long taskId,
+                                                              @CurrentUserId String userId) {
+    return ResponseEntity.ok(taskService.getSubtree(taskId, userId));
+  }
+
+  @Operation(summary = "태스크 삭제", description = "특정 태스크와 모든 하위 태스크를 삭제합니다.")
   @DeleteMapping("/{taskId}")
   public ResponseEntity<Void> deleteTask(@PathVariable Long taskId,
                                          @CurrentUserId String userId) {
     // TaskService에 권한 검증 및 삭제를 위임
-    taskService.deleteTask(taskId, userId);
+    retryExecutor.execute(() -> taskService.deleteTask(taskId, userId));
 
     // ⭐️ HTTP 204 No Content 응답 반환
     return ResponseEntity.noContent().build();
   }
-}
\ No newline at end of file
+
+  // 프로젝트 변경 버전 기반 강한 ETag
+  private static String boardETag(Long projectId, long version) {
+    return "\"p" + projectId + "-v" + version + "\"";
+  }
+}
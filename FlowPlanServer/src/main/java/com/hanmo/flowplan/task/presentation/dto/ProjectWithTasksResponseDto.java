@@ -1,5 +1,6 @@
 package com.hanmo.flowplan.task.presentation.dto;
 
+import com.hanmo.flowplan.project.application.dto.TaskCountResponse;
 import com.hanmo.flowplan.project.domain.Project;
 import java.util.List;
 
@@ -8,7 +9,9 @@ public record ProjectWithTasksResponseDto(
     String projectName,
     String projectTopic,         // (엔티티의 description 등 매핑)
     int memberCount,
+    TaskCountResponse taskCounts,  // 전체 / 상태별 작업 수
     int expectedDurationMonths,  // (엔티티의 durationMonths 매핑)
+    long version,                // ⭐️ 프로젝트 변경 버전 (델타 동기화 since 값)
     List<TaskFlatResponseDto> tasks // ⭐️ 기존의 Task 리스트를 여기에 담음
 ) {
   // 정적 팩토리 메서드
@@ -17,8 +20,10 @@ public record ProjectWithTasksResponseDto(
         project.getId(),
         project.getProjectName(),
         project.getProjectType(), // 또는 project.getDescription()
-        project.getProjectMembers() != null ? project.getProjectMembers().size() : 0,
+        project.getMemberCount(),            // ⭐️ 컬렉션 초기화/COUNT 쿼리 없이 카운터 사용
+        TaskCountResponse.from(project),
         project.getExpectedDurationMonths(), // 일 -> 개월 변환 예시
+        project.getChangeVersion(),
         tasks
     );
   }
@@ -0,0 +1,22 @@
+package com.hanmo.flowplan.task.presentation.dto;
+
+import java.util.List;
+
+// 델타 동기화 응답: since 버전 이후 생성/수정된 작업과 삭제된 작업 id
+// fullResyncRequired = true 면 since 가 삭제 기록 보존 구간보다 오래된 것 -> 델타를 버리고 전체 작업 목록을 다시 조회
+public record TaskDeltaResponseDto(
+    Long projectId,
+    long version,                    // 다음 요청의 since 로 사용할 현재 프로젝트 버전
+    List<TaskFlatResponseDto> upserted,
+    List<Long> deletedIds,
+    boolean fullResyncRequired
+) {
+  public static TaskDeltaResponseDto of(Long projectId, long version,
+                                        List<TaskFlatResponseDto> upserted, List<Long> deletedIds) {
+    return new TaskDeltaResponseDto(projectId, version, upserted, deletedIds, false);
+  }
+
+  public static TaskDeltaResponseDto fullResyncRequired(Long projectId, long version) {
+    return new TaskDeltaResponseDto(projectId, version, List.of(), List.of(), true);
+  }
+}
@@ -24,6 +24,15 @@ public record TaskFlatResponseDto(
     String assigneeName     // 실제 담당자 이름
 ) {
 
+  /**
+   * ⭐️ 기간(duration)을 시작/종료일로 계산해서 생성 (프로젝션 행 변환용, TaskFlatRow.toResponse)
+   */
+  public static TaskFlatResponseDto of(Long id, Long parent, String name, LocalDate start, LocalDate end,
+                                       int progress, TaskStatus status, String assigneeEmail, String assigneeName) {
+    return new TaskFlatResponseDto(id, parent, name, start, end, durationOf(start, end), progress, status,
+        assigneeEmail, assigneeName);
+  }
+
   /**
    * ⭐️ 엔티티 -> DTO 변환 (재귀 없음)
    * Task 엔티티를 받아서 TaskFlatResponseDto 레코드를 생성하는 정적 팩토리 메서드
@@ -37,13 +46,6 @@ public record TaskFlatResponseDto(
     String assigneeEmail = (task.getAssignee() != null) ? task.getAssignee().getEmail() : null;
     String assigneeName = (task.getAssignee() != null) ? task.getAssignee().getName() : task.getRecommendedRole();
 
-    // duration 계산 (일 단위)
-    int duration = 0;
-    if (task.getStartDate() != null && task.getEndDate() != null) {
-      duration = (int) ChronoUnit.DAYS.between(task.getStartDate(), task.getEndDate()) + 1; // +1은 시작일 포함
-    }
-
-
     // ⭐️ 레코드의 생성자(Canonical Constructor) 호출
     return new TaskFlatResponseDto(
         task.getId(),
@@ -51,11 +53,19 @@ public record TaskFlatResponseDto(
         task.getName(),
         task.getStartDate(),
         task.getEndDate(),
-        duration,
+        durationOf(task.getStartDate(), task.getEndDate()),
         task.getProgress(),
         task.getStatus(),
         assigneeEmail,
         assigneeName
     );
   }
+
+  // duration 계산 (일 단위, +1은 시작일 포함)
+  private static int durationOf(LocalDate start, LocalDate end) {
+    if (start == null || end == null) {
+      return 0;
+    }
+    return (int) ChronoUnit.DAYS.between(start, end) + 1;
+  }
 }
\ No newline at end of file
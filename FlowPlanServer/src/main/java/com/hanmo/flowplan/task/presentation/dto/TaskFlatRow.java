@@ -0,0 +1,29 @@
+package com.hanmo.flowplan.task.presentation.dto;
+
+import com.hanmo.flowplan.task.domain.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * ⭐️ 작업 조회 프로젝션 행 (JPQL 생성자 프로젝션 / JDBC 커서 전용)
+ * 엔티티/지연 로딩 없이 컬럼 값만 담고, 응답 DTO 변환은 toResponse()에서 합니다.
+ */
+public record TaskFlatRow(
+    Long id,
+    Long parent,
+    String name,
+    LocalDate start,
+    LocalDate end,
+    int progress,
+    TaskStatus status,
+    String assigneeEmail,
+    String assigneeName,
+    String recommendedRole
+) {
+
+  public TaskFlatResponseDto toResponse() {
+    // 담당자가 없으면 추천 역할을 이름 칸에 표시 (TaskFlatResponseDto.from 과 동일)
+    return TaskFlatResponseDto.of(id, parent, name, start, end, progress, status,
+        assigneeEmail, (assigneeEmail != null) ? assigneeName : recommendedRole);
+  }
+}
@@ -0,0 +1,50 @@
+package com.hanmo.flowplan.user.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * ⭐️ 요청 단위로 확인된 현재 사용자 (@CurrentUserId 리졸버가 토큰 클레임으로 한 번 채움)
+ *
+ * 같은 요청 안에서 검증기들이 googleId/이메일로 사용자를 다시 조회하지 않고
+ * id 로 지연 로딩 참조(getReferenceById)를 만들 수 있게 합니다.
+ * 요청 밖(스케줄러 등)이거나 채워지지 않았으면 비어 있으므로 기존처럼 조회하면 됩니다.
+ */
+@Component
+public class CurrentUserContext {
+
+    static final String ATTRIBUTE = CurrentUserContext.class.getName() + ".RESOLVED_USER";
+
+    public record ResolvedUser(Long id, String googleId, String email) {
+    }
+
+    public void set(ResolvedUser user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && user.id() != null) {
+            attributes.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public Optional<Long> findUserIdByGoogleId(String googleId) {
+        return current()
+                .filter(user -> user.googleId().equals(googleId))
+                .map(ResolvedUser::id);
+    }
+
+    public Optional<Long> findUserIdByEmail(String email) {
+        return current()
+                .filter(user -> user.email() != null && user.email().equals(email))
+                .map(ResolvedUser::id);
+    }
+
+    private Optional<ResolvedUser> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((ResolvedUser) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -2,26 +2,49 @@ package com.hanmo.flowplan.user.application;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
 import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 
+/**
+ * ⭐️ Google ID Token 검증
+ *
+ * - 전송 계층(커넥션 재사용)과 공개키 관리자(인증서 캐시)는 애플리케이션에서 하나만 만들어 공유
+ * - 공개키는 인증서 응답의 Cache-Control max-age 동안 캐시되고, 만료 전에 백그라운드에서 미리 갱신
+ *   -> 평상시 로그인 요청은 인증서를 네트워크로 가져오지 않음
+ * - 인증서 URL은 oauth.google.certs-url 로 변경 가능 (테스트용 로컬 키 서버 등)
+ */
+@Slf4j
 @Service
 public class GoogleIdTokenVerifierService {
 
-    @Value("${oauth.google.client-id}")
-    private String googleClientId;
+    static final String DEFAULT_CERTS_URL = "https://www.googleapis.com/oauth2/v1/certs";
+
+    // 공개키 관리자는 만료 5분 전부터 요청 스레드에서 갱신하므로, 그보다 먼저 백그라운드에서 갱신
+    private static final long REFRESH_AHEAD_MILLIS = 10 * 60 * 1000L;
+
+    private final GooglePublicKeysManager publicKeysManager;
+    private final GoogleIdTokenVerifier verifier;
+
+    public GoogleIdTokenVerifierService(@Value("${oauth.google.client-id}") String googleClientId,
+                                        @Value("${oauth.google.certs-url:" + DEFAULT_CERTS_URL + "}") String certsUrl) {
+        this.publicKeysManager = new GooglePublicKeysManager.Builder(
+                new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+        this.verifier = new GoogleIdTokenVerifier.Builder(publicKeysManager)
+                .setAudience(Collections.singletonList(googleClientId))
+                .build();
+    }
 
     public GoogleUserInfo verify(String idTokenString) {
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(), JacksonFactory.getDefaultInstance())
-                    .setAudience(Collections.singletonList(googleClientId))
-                    .build();
-
             GoogleIdToken idToken = verifier.verify(idTokenString);
             if (idToken == null) {
                 throw new IllegalArgumentException("유효하지 않은 Google ID Token");
@@ -37,4 +60,21 @@ public class GoogleIdTokenVerifierService {
             throw new IllegalStateException("Google ID Token 검증 실패", e);
         }
     }
+
+    /**
+     * 기동 직후 한 번, 이후 주기적으로 공개키 만료가 가까우면 미리 갱신합니다.
+     * 실패해도 로그만 남기고, 다음 주기 또는 로그인 요청에서 다시 가져옵니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${oauth.google.certs-refresh-check-ms:60000}")
+    public void refreshPublicKeysIfExpiring() {
+        if (System.currentTimeMillis() + REFRESH_AHEAD_MILLIS < publicKeysManager.getExpirationTimeMilliseconds()) {
+            return;
+        }
+        try {
+            publicKeysManager.refresh();
+            log.debug("Google public keys refreshed, expires at {}", publicKeysManager.getExpirationTimeMilliseconds());
+        } catch (Exception e) {
+            log.warn("Google public keys refresh failed: {}", e.getMessage());
+        }
+    }
 }
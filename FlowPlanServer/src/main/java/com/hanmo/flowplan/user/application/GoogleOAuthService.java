@@ -1,7 +1,9 @@
 package com.hanmo.flowplan.user.application;
 
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
 import com.hanmo.flowplan.global.jwt.JwtProvider;
 import com.hanmo.flowplan.global.jwt.JwtToken;
+import com.hanmo.flowplan.global.jwt.TokenRevocationList;
 import com.hanmo.flowplan.user.application.dto.AuthResult;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
@@ -17,6 +19,7 @@ public class GoogleOAuthService {
     private final JwtProvider jwtProvider;
     private final GoogleIdTokenVerifierService googleIdTokenVerifierService;
     private final RefreshTokenStore refreshTokenStore; // 아래에 간단 구현 포함
+    private final TokenRevocationList tokenRevocationList;
 
     @Transactional
     public AuthResult loginWithGoogle(String idToken) {
@@ -33,7 +36,7 @@ public class GoogleOAuthService {
                         .build()
         ));
 
-        JwtToken jwt = jwtProvider.issueToken(user.getGoogleId());
+        JwtToken jwt = jwtProvider.issueToken(user);
         refreshTokenStore.save(user.getGoogleId(), jwt.refreshToken());
 
         return new AuthResult(user.getId(), user.getEmail(), user.getName(), isNew, jwt);
@@ -50,8 +53,7 @@ public class GoogleOAuthService {
         jwtProvider.assertRefreshToken(refreshToken);
         String googleId = jwtProvider.getGoogleIdFromToken(refreshToken);
 
-        String stored = refreshTokenStore.get(googleId);
-        if (stored == null || !stored.equals(refreshToken)) {
+        if (!refreshTokenStore.matches(googleId, refreshToken)) {
             throw new IllegalArgumentException("저장된 리프레시 토큰과 일치하지 않습니다.");
         }
 
@@ -60,11 +62,11 @@ public class GoogleOAuthService {
         return t;
     }
 
-    // 로그아웃 (AT 무효화는 보통 블랙리스트 or 만료 대기. 여기선 RT 삭제만)
-    public void logout(String accessToken) {
-        if (accessToken == null) return;
-        String googleId = jwtProvider.getGoogleIdFromToken(accessToken);
-        refreshTokenStore.delete(googleId);
-        // TODO: 필요 시 AccessToken 블랙리스트 처리
+    // 로그아웃 - RT 삭제 + AT 폐기 (인증 필터가 만든 주체의 토큰 정보 사용, 토큰을 다시 파싱하지 않음)
+    public void logout(CustomUserDetails principal) {
+        if (principal == null) return;
+        refreshTokenStore.delete(principal.getGoogleId());
+        // AT 는 만료 시각까지 폐기 목록에 등록
+        tokenRevocationList.revoke(principal.getTokenId(), principal.getTokenExpiresAt());
     }
 }
@@ -0,0 +1,48 @@
+package com.hanmo.flowplan.user.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanmo.flowplan.global.common.AfterCommit;
+import com.hanmo.flowplan.user.domain.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * ⭐️ 사용자별 멤버십 epoch
+ *
+ * - 역할 변경/추방/나가기/프로젝트 삭제 시 증가 -> 이전 epoch 로 발급된 토큰의 프로젝트 권한 클레임은 거부되어 재발급 유도
+ * - 요청마다 비교하므로 현재 값은 짧은 TTL 캐시로 조회 (이 서버의 변경은 커밋 직후 반영, 다른 서버는 TTL 이내)
+ */
+@Service
+public class MembershipEpochService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> epochCache;
+
+    public MembershipEpochService(UserRepository userRepository,
+                                  @Value("${jwt.project-claims.epoch-cache-ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${jwt.project-claims.epoch-cache-max-size:50000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.epochCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // 없는 사용자는 어떤 토큰 epoch 보다도 크게 취급 (= 클레임 신뢰 안 함)
+    public long currentEpoch(String googleId) {
+        return epochCache.get(googleId, id -> userRepository.findMembershipEpochByGoogleId(id).orElse(Long.MAX_VALUE));
+    }
+
+    public void increase(String googleId) {
+        userRepository.increaseMembershipEpoch(googleId);
+        AfterCommit.run(() -> epochCache.invalidate(googleId));
+    }
+
+    public void increaseForProjectMembers(Long projectId) {
+        userRepository.increaseMembershipEpochOfProjectMembers(projectId);
+        AfterCommit.run(epochCache::invalidateAll);
+    }
+}
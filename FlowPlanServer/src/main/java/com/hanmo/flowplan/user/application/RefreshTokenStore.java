@@ -1,23 +1,20 @@
 package com.hanmo.flowplan.user.application;
 
-import org.springframework.stereotype.Component;
+/**
+ * 리프레시 토큰 저장소 (사용자당 최신 RT 1개)
+ *
+ * auth.refresh-token.store 로 구현체 선택
+ * - memory (기본): 단일 서버용, 만료/개수 제한이 있는 메모리 캐시
+ * - jdbc: 다중 서버용, DB에 토큰 해시 저장 + 만료 토큰 주기적 일괄 삭제
+ */
+public interface RefreshTokenStore {
 
-import java.util.concurrent.ConcurrentHashMap;
+    void save(String googleId, String refreshToken);
 
-// 임시 RT 저장소(메모리), 추후 Redis로 대체
-@Component
-public class RefreshTokenStore {
-    private final ConcurrentHashMap<String, String> store = new ConcurrentHashMap<>();
+    /**
+     * 저장된 최신 RT와 같고 아직 만료되지 않았는지 확인합니다.
+     */
+    boolean matches(String googleId, String refreshToken);
 
-    public void save(String email, String refreshToken) {
-        store.put(email, refreshToken);
-    }
-
-    public String get(String email) {
-        return store.get(email);
-    }
-
-    public void delete(String email) {
-        store.remove(email);
-    }
+    void delete(String googleId);
 }
@@ -1,5 +1,6 @@
 package com.hanmo.flowplan.user.application.validator;
 
+import com.hanmo.flowplan.user.application.CurrentUserContext;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,15 +8,31 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserValidator {
 
   private final UserRepository userRepository;
+  private final CurrentUserContext currentUserContext;
 
+  // 사용자 엔티티가 필요한 경우 (필드 사용, 사용자 소유 행 생성) - 항상 조회해서 삭제된 사용자는 여기서 실패
   public User validateAndGetUser(String googleId) {
     return userRepository.findByGoogleId(googleId)
         .orElseThrow(() -> new UsernameNotFoundException("User not found with googleId: " + googleId));
   }
+
+  /**
+   * ⭐️ FK 조건 조회에만 쓰는 경우 - 이번 요청에서 토큰으로 확인된 사용자면 조회 없이 참조만 반환
+   * (참조의 필드 접근/행 생성에 쓰면 삭제된 사용자가 늦게 500 으로 실패하므로 validateAndGetUser 사용)
+   */
+  public User getUserReference(String googleId) {
+    Optional<Long> resolvedId = currentUserContext.findUserIdByGoogleId(googleId);
+    if (resolvedId.isPresent()) {
+      return userRepository.getReferenceById(resolvedId.get());
+    }
+    return validateAndGetUser(googleId);
+  }
 }
@@ -0,0 +1,29 @@
+package com.hanmo.flowplan.user.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다중 서버용 리프레시 토큰 저장 테이블 (JdbcRefreshTokenStore)
+ * 원문 토큰 대신 SHA-256 해시만 보관하고, 만료 토큰 일괄 삭제를 위해 expires_at 에 인덱스를 둡니다.
+ */
+@Entity
+@Getter
+@Table(name = "refresh_tokens",
+    indexes = @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+public class RefreshToken {
+
+  @Id
+  @Column(name = "google_id", length = 191)
+  private String googleId;
+
+  @Column(name = "token_hash", nullable = false, length = 64)
+  private String tokenHash;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
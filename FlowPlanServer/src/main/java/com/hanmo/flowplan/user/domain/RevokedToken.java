@@ -0,0 +1,35 @@
+package com.hanmo.flowplan.user.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 액세스 토큰 (jti 기준, 로그아웃 등)
+ * 토큰 만료 시각이 지나면 더 이상 검사할 필요가 없으므로 expires_at 기준으로 정리합니다.
+ */
+@Entity
+@Getter
+@Table(name = "revoked_tokens",
+    indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+public class RevokedToken {
+
+  @Id
+  @Column(name = "jti", length = 36)
+  private String jti;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  private RevokedToken(String jti, LocalDateTime expiresAt) {
+    this.jti = jti;
+    this.expiresAt = expiresAt;
+  }
+
+  public static RevokedToken of(String jti, LocalDateTime expiresAt) {
+    return new RevokedToken(jti, expiresAt);
+  }
+}
@@ -0,0 +1,19 @@
+package com.hanmo.flowplan.user.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  @Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+  List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
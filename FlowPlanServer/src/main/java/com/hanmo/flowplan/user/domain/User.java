@@ -35,6 +35,10 @@ public class User extends BaseTimeEntity {
   @Enumerated(EnumType.STRING)
   private UserRole role;
 
+  // ⭐️ 프로젝트 멤버십(역할/추방 등)이 바뀔 때마다 증가 - 토큰의 프로젝트 권한 클레임 무효화용
+  @Column(name = "membership_epoch", nullable = false)
+  private long membershipEpoch;
+
 
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<ProjectMember> projectMembers = new ArrayList<>();
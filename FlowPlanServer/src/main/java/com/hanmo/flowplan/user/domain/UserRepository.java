@@ -1,10 +1,26 @@
 package com.hanmo.flowplan.user.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByGoogleId(String googleId);
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.membershipEpoch FROM User u WHERE u.googleId = :googleId")
+    Optional<Long> findMembershipEpochByGoogleId(@Param("googleId") String googleId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.membershipEpoch = u.membershipEpoch + 1 WHERE u.googleId = :googleId")
+    void increaseMembershipEpoch(@Param("googleId") String googleId);
+
+    // 프로젝트 삭제 시 모든 멤버의 토큰 권한 클레임 무효화
+    @Modifying
+    @Query("UPDATE User u SET u.membershipEpoch = u.membershipEpoch + 1 " +
+        "WHERE u.id IN (SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId)")
+    void increaseMembershipEpochOfProjectMembers(@Param("projectId") Long projectId);
 }
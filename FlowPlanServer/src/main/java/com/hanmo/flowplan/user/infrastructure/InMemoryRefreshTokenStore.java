@@ -0,0 +1,57 @@
+package com.hanmo.flowplan.user.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.hanmo.flowplan.user.application.RefreshTokenStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+import static com.hanmo.flowplan.global.jwt.JwtConstant.REFRESH_TOKEN_EXPIRE_TIME;
+
+/**
+ * 단일 서버용 RT 저장소 - RT 만료 시간이 지나면 제거되고, 최대 개수를 넘으면 오래 안 쓴 항목부터 제거
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+  private final Cache<String, String> store;
+
+  @Autowired
+  public InMemoryRefreshTokenStore(@Value("${auth.refresh-token.memory.max-size:100000}") long maxSize) {
+    this(maxSize, Duration.ofMillis(REFRESH_TOKEN_EXPIRE_TIME), Ticker.systemTicker());
+  }
+
+  // 만료 시간/시계를 지정하는 생성자 (테스트용)
+  public InMemoryRefreshTokenStore(long maxSize, Duration timeToLive, Ticker ticker) {
+    this.store = Caffeine.newBuilder()
+        .expireAfterWrite(timeToLive)
+        .maximumSize(maxSize)
+        .ticker(ticker)
+        .build();
+  }
+
+  @Override
+  public void save(String googleId, String refreshToken) {
+    store.put(googleId, refreshToken);
+  }
+
+  @Override
+  public boolean matches(String googleId, String refreshToken) {
+    String stored = store.getIfPresent(googleId);
+    return stored != null && refreshToken != null && MessageDigest.isEqual(
+        stored.getBytes(StandardCharsets.UTF_8), refreshToken.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void delete(String googleId) {
+    store.invalidate(googleId);
+  }
+}
@@ -0,0 +1,101 @@
+package com.hanmo.flowplan.user.infrastructure;
+
+import com.hanmo.flowplan.user.application.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.hanmo.flowplan.global.jwt.JwtConstant.REFRESH_TOKEN_EXPIRE_TIME;
+
+/**
+ * 다중 서버용 RT 저장소 (refresh_tokens 테이블)
+ *
+ * - 원문 토큰은 저장하지 않고 SHA-256 해시로 비교
+ * - 만료된 행은 조회에서 제외하고, 주기적으로 작은 묶음 단위로 삭제 (긴 잠금 방지)
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO refresh_tokens (google_id, token_hash, expires_at) VALUES (?, ?, ?) " +
+          "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), expires_at = VALUES(expires_at)";
+
+  private static final String SELECT_HASH_SQL =
+      "SELECT token_hash FROM refresh_tokens WHERE google_id = ? AND expires_at > ?";
+
+  private static final String DELETE_SQL = "DELETE FROM refresh_tokens WHERE google_id = ?";
+
+  private static final String PURGE_EXPIRED_SQL =
+      "DELETE FROM refresh_tokens WHERE expires_at <= ? LIMIT ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int purgeBatchSize;
+
+  public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate,
+                               @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.purgeBatchSize = Math.max(1, purgeBatchSize);
+  }
+
+  @Override
+  public void save(String googleId, String refreshToken) {
+    LocalDateTime expiresAt = LocalDateTime.now().plusNanos(REFRESH_TOKEN_EXPIRE_TIME * 1_000_000L);
+    jdbcTemplate.update(UPSERT_SQL, googleId, hash(refreshToken), Timestamp.valueOf(expiresAt));
+  }
+
+  @Override
+  public boolean matches(String googleId, String refreshToken) {
+    if (refreshToken == null) {
+      return false;
+    }
+    List<String> hashes = jdbcTemplate.queryForList(SELECT_HASH_SQL, String.class,
+        googleId, Timestamp.valueOf(LocalDateTime.now()));
+    return !hashes.isEmpty() && MessageDigest.isEqual(
+        hashes.get(0).getBytes(StandardCharsets.US_ASCII), hash(refreshToken).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Override
+  public void delete(String googleId) {
+    jdbcTemplate.update(DELETE_SQL, googleId);
+  }
+
+  /**
+   * 만료된 RT를 purgeBatchSize 개씩 나눠 삭제합니다. (한 번에 큰 DELETE 로 테이블을 오래 잠그지 않도록)
+   */
+  @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(PURGE_EXPIRED_SQL, now, purgeBatchSize);
+      total += deleted;
+    } while (deleted == purgeBatchSize);
+
+    if (total > 0) {
+      log.info("Purged {} expired refresh tokens", total);
+    }
+  }
+
+  static String hash(String refreshToken) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(md.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.hanmo.flowplan.user.presentation;
 
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
 import com.hanmo.flowplan.global.jwt.JwtToken;
 import com.hanmo.flowplan.user.application.GoogleOAuthService;
 import com.hanmo.flowplan.user.application.dto.AuthResult;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -49,9 +51,8 @@ public class AuthController {
   }
 
   @PostMapping("/logout")
-  public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String bearer) {
-    String at = (bearer != null && bearer.startsWith("Bearer ")) ? bearer.substring(7) : null;
-    googleOAuthService.logout(at);
+  public ResponseEntity<Void> logout(@AuthenticationPrincipal CustomUserDetails principal) {
+    googleOAuthService.logout(principal);
     return ResponseEntity.noContent().build();
   }
 
@@ -1,7 +1,9 @@
 package com.hanmo.flowplan;
 
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
 import com.hanmo.flowplan.global.jwt.JwtProvider;
 import com.hanmo.flowplan.global.jwt.JwtToken;
+import com.hanmo.flowplan.global.jwt.TokenRevocationList;
 import com.hanmo.flowplan.user.application.dto.AuthResult;
 import com.hanmo.flowplan.user.application.GoogleIdTokenVerifierService;
 import com.hanmo.flowplan.user.application.GoogleOAuthService;
@@ -9,6 +11,7 @@ import com.hanmo.flowplan.user.application.GoogleUserInfo;
 import com.hanmo.flowplan.user.application.RefreshTokenStore;
 import com.hanmo.flowplan.user.domain.User;
 import com.hanmo.flowplan.user.domain.UserRepository;
+import com.hanmo.flowplan.user.domain.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,6 +33,7 @@ class AuthServiceTest {
     @Mock JwtProvider jwtProvider;
     @Mock GoogleIdTokenVerifierService googleIdTokenVerifierService;
     @Mock RefreshTokenStore refreshTokenStore;
+    @Mock TokenRevocationList tokenRevocationList;
 
     @InjectMocks GoogleOAuthService service;
 
@@ -53,7 +58,7 @@ class AuthServiceTest {
 
         given(userRepository.findByGoogleId(GOOGLE_USER_ID)).willReturn(Optional.empty());
         given(userRepository.save(any(User.class))).willReturn(savedUser);
-        given(jwtProvider.issueToken(EMAIL)).willReturn(JWT);
+        given(jwtProvider.issueToken(savedUser)).willReturn(JWT);
 
         // when
         AuthResult result = service.loginWithGoogle(ID_TOKEN);
@@ -67,7 +72,7 @@ class AuthServiceTest {
         assertThat(toSave.getName()).isEqualTo(NAME);
 
         // RT 저장
-        verify(refreshTokenStore).save(EMAIL, JWT.refreshToken());
+        verify(refreshTokenStore).save(GOOGLE_USER_ID, JWT.refreshToken());
 
         // 반환값 검증(헤더 X, 순수 결과만)
         assertThat(result.email()).isEqualTo(EMAIL);
@@ -91,14 +96,14 @@ class AuthServiceTest {
                 .build();
 
         given(userRepository.findByGoogleId(GOOGLE_USER_ID)).willReturn(Optional.of(existing));
-        given(jwtProvider.issueToken(EMAIL)).willReturn(JWT);
+        given(jwtProvider.issueToken(existing)).willReturn(JWT);
 
         // when
         AuthResult result = service.loginWithGoogle(ID_TOKEN);
 
         // then
         verify(userRepository, never()).save(any());
-        verify(refreshTokenStore).save(EMAIL, JWT.refreshToken());
+        verify(refreshTokenStore).save(GOOGLE_USER_ID, JWT.refreshToken());
 
         assertThat(result.isNewUser()).isFalse();
     }
@@ -114,7 +119,7 @@ class AuthServiceTest {
 
         willDoNothing().given(jwtProvider).assertRefreshToken(oldRT);
         given(jwtProvider.getGoogleIdFromToken(oldRT)).willReturn(GOOGLE_USER_ID);
-        given(refreshTokenStore.get(GOOGLE_USER_ID)).willReturn(oldRT);
+        given(refreshTokenStore.matches(GOOGLE_USER_ID, oldRT)).willReturn(true);
         given(jwtProvider.reissue(oldRT)).willReturn(newTokens);
 
         // when
@@ -123,7 +128,7 @@ class AuthServiceTest {
         // then
         assertThat(issued.accessToken()).isEqualTo(newAT);
         assertThat(issued.refreshToken()).isEqualTo(newRT);
-        verify(refreshTokenStore).save(EMAIL, newRT);
+        verify(refreshTokenStore).save(GOOGLE_USER_ID, newRT);
     }
 
     @Test
@@ -133,7 +138,7 @@ class AuthServiceTest {
         String oldRT = "RT-old";
         willDoNothing().given(jwtProvider).assertRefreshToken(oldRT);
         given(jwtProvider.getGoogleIdFromToken(oldRT)).willReturn(GOOGLE_USER_ID);
-        given(refreshTokenStore.get(EMAIL)).willReturn("DIFFERENT-RT");
+        given(refreshTokenStore.matches(GOOGLE_USER_ID, oldRT)).willReturn(false);
 
         // when / then
         assertThatThrownBy(() -> service.reissueTokens(oldRT))
@@ -145,26 +150,30 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("[logout] AT가 존재하면 해당 이메일의 RT를 삭제한다.")
+    @DisplayName("[logout] 인증된 사용자의 RT를 삭제하고, AT는 토큰을 다시 파싱하지 않고 폐기 목록에 올린다.")
     void logout_AT있으면_RT삭제() {
-        // given
-        String accessToken = "AT-xxx";
-        given(jwtProvider.getGoogleIdFromToken(accessToken)).willReturn(GOOGLE_USER_ID);
+        // given: 인증 필터가 만든 주체 (jti, exp 포함)
+        Instant exp = Instant.now().plusSeconds(600);
+        CustomUserDetails principal = new CustomUserDetails(1L, GOOGLE_USER_ID, EMAIL, UserRole.USER)
+                .withToken("jti-1", exp);
 
         // when
-        service.logout(accessToken);
+        service.logout(principal);
 
         // then
-        verify(refreshTokenStore).delete(EMAIL);
+        verify(refreshTokenStore).delete(GOOGLE_USER_ID);
+        verify(tokenRevocationList).revoke("jti-1", exp);
+        verifyNoInteractions(jwtProvider);
     }
 
     @Test
-    @DisplayName("[logout] AT가 null이면 아무 동작도 하지 않는다.")
+    @DisplayName("[logout] 인증 정보가 없으면 아무 동작도 하지 않는다.")
     void logout_AT없으면_아무것도_안함() {
         // when
         service.logout(null);
 
         // then
         verifyNoInteractions(refreshTokenStore);
+        verifyNoInteractions(tokenRevocationList);
     }
 }
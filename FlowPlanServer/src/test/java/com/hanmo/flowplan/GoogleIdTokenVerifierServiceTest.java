@@ -0,0 +1,77 @@
+package com.hanmo.flowplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hanmo.flowplan.user.application.GoogleIdTokenVerifierService;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GoogleIdTokenVerifierServiceTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+
+    HttpServer keyServer;
+    AtomicInteger certFetches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 로컬 키 서버 대역: 빈 인증서 목록, 1시간 캐시
+        keyServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        keyServer.createContext("/certs", exchange -> {
+            certFetches.incrementAndGet();
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        keyServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("[verify] 공개키를 미리 받아두면, 이후 로그인 검증은 인증서를 다시 가져오지 않는다.")
+    void 평상시_로그인은_인증서_요청_없음() {
+        // given
+        GoogleIdTokenVerifierService service = new GoogleIdTokenVerifierService(CLIENT_ID, certsUrl());
+        service.refreshPublicKeysIfExpiring(); // 기동 시 백그라운드 갱신
+
+        // when: 로그인 3번 (서명 키가 없으므로 검증은 실패)
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> service.verify(unsignedIdToken()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        service.refreshPublicKeysIfExpiring(); // max-age 가 남아 있으면 갱신하지 않음
+
+        // then
+        assertThat(certFetches.get()).isEqualTo(1);
+    }
+
+    private String certsUrl() {
+        return "http://127.0.0.1:" + keyServer.getAddress().getPort() + "/certs";
+    }
+
+    private static String unsignedIdToken() {
+        long now = System.currentTimeMillis() / 1000;
+        String header = "{\"alg\":\"RS256\",\"typ\":\"JWT\"}";
+        String payload = "{\"iss\":\"https://accounts.google.com\",\"aud\":\"" + CLIENT_ID + "\","
+                + "\"sub\":\"google-123\",\"iat\":" + now + ",\"exp\":" + (now + 3600) + "}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,184 @@
+package com.hanmo.flowplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
+import com.hanmo.flowplan.global.jwt.JwtProvider;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.user.domain.User;
+import com.hanmo.flowplan.user.domain.UserRepository;
+import com.hanmo.flowplan.user.domain.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String GOOGLE_ID = "google-123";
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ProjectMemberRepository projectMemberRepository;
+
+    JwtProvider jwtProvider;
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET, userRepository, projectMemberRepository, 300, 100, 100, false, 20);
+
+        user = User.builder()
+                .googleId(GOOGLE_ID)
+                .email("user@test.com")
+                .name("user")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+    }
+
+    @Test
+    @DisplayName("[getAuthentication] 사용자 클레임이 담긴 토큰은 DB 조회 없이 인증 주체를 만든다.")
+    void 클레임_토큰은_조회없이_인증() {
+        // given
+        String accessToken = jwtProvider.issueToken(user).accessToken();
+
+        // when: 요청 3번
+        Authentication auth = null;
+        for (int i = 0; i < 3; i++) {
+            auth = jwtProvider.getAuthentication(accessToken);
+        }
+
+        // then: 사용자 조회 0회
+        verify(userRepository, never()).findByGoogleId(anyString());
+
+        CustomUserDetails principal = (CustomUserDetails) auth.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getGoogleId()).isEqualTo(GOOGLE_ID);
+        assertThat(principal.getEmail()).isEqualTo("user@test.com");
+        assertThat(principal.getRole()).isEqualTo(UserRole.USER);
+        assertThat(principal.getTokenId()).isNotBlank(); // 폐기 확인/로그아웃용 jti, exp
+        assertThat(principal.getTokenExpiresAt()).isAfter(Instant.now());
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("[getAuthentication] 클레임이 없는 이전 방식 토큰은 TTL 캐시로 첫 요청에서만 조회한다.")
+    void 이전_토큰은_캐시로_한번만_조회() {
+        // given
+        String legacyToken = jwtProvider.issueToken(GOOGLE_ID).accessToken();
+        given(userRepository.findByGoogleId(GOOGLE_ID)).willReturn(Optional.of(user));
+
+        // when: 요청 3번
+        for (int i = 0; i < 3; i++) {
+            jwtProvider.getAuthentication(legacyToken);
+        }
+
+        // then: 사용자 조회 1회
+        verify(userRepository, times(1)).findByGoogleId(GOOGLE_ID);
+    }
+
+    @Test
+    @DisplayName("[getAuthentication] 검증 결과 캐시는 토큰 만료 시각까지만 유지되어, 만료된 토큰은 거부된다.")
+    void 검증_캐시는_만료를_지킨다() {
+        // given: 1초 뒤 만료되는 토큰
+        String shortLived = Jwts.builder()
+                .setSubject("FlowPlan")
+                .claim("googleId", GOOGLE_ID)
+                .claim("uid", 7L)
+                .claim("email", "user@test.com")
+                .claim("role", "USER")
+                .claim("type", "access")
+                .setExpiration(new Date(System.currentTimeMillis() + 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then: 만료 전에는 (캐시된) 인증 성공
+        assertThat(jwtProvider.getAuthentication(shortLived).getName()).isEqualTo(GOOGLE_ID);
+
+        // then: 만료 후에는 캐시가 아닌 재검증으로 만료 예외
+        await().atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertThatThrownBy(() -> jwtProvider.getAuthentication(shortLived))
+                        .isInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    @DisplayName("[getAuthentication] 서명이 위조된 토큰은 거부된다.")
+    void 위조_토큰은_거부() {
+        // given
+        String accessToken = jwtProvider.issueToken(user).accessToken();
+        jwtProvider.getAuthentication(accessToken); // 정상 토큰은 캐시됨
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(tampered))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("[getAuthentication] 프로젝트 권한 클레임 모드에서는 프로젝트별 역할과 멤버십 epoch 를 토큰에서 읽는다.")
+    void 프로젝트_권한_클레임() {
+        // given
+        JwtProvider claimsProvider = new JwtProvider(SECRET, userRepository, projectMemberRepository, 300, 100, 100, true, 20);
+        ReflectionTestUtils.setField(user, "membershipEpoch", 3L);
+        given(projectMemberRepository.findProjectRolesByUserId(7L)).willReturn(List.of(
+                new Object[]{1L, 11L, ProjectRole.OWNER},
+                new Object[]{2L, 22L, ProjectRole.VIEWER}));
+
+        // when
+        String accessToken = claimsProvider.issueToken(user).accessToken();
+        CustomUserDetails principal = (CustomUserDetails) claimsProvider.getAuthentication(accessToken).getPrincipal();
+
+        // then
+        assertThat(principal.getMembershipEpoch()).isEqualTo(3L);
+        assertThat(principal.getProjects()).containsOnlyKeys(1L, 2L);
+        assertThat(principal.getProjects().get(1L).memberId()).isEqualTo(11L);
+        assertThat(principal.getProjects().get(1L).role()).isEqualTo(ProjectRole.OWNER);
+        assertThat(principal.getProjects().get(2L).role()).isEqualTo(ProjectRole.VIEWER);
+        verify(userRepository, never()).findByGoogleId(anyString());
+    }
+
+    @Test
+    @DisplayName("[issueToken] 참여 프로젝트가 너무 많으면 프로젝트 권한 클레임을 넣지 않는다.")
+    void 프로젝트가_많으면_클레임_생략() {
+        // given
+        JwtProvider claimsProvider = new JwtProvider(SECRET, userRepository, projectMemberRepository, 300, 100, 100, true, 1);
+        given(projectMemberRepository.findProjectRolesByUserId(7L)).willReturn(List.of(
+                new Object[]{1L, 11L, ProjectRole.OWNER},
+                new Object[]{2L, 22L, ProjectRole.VIEWER}));
+
+        // when
+        String accessToken = claimsProvider.issueToken(user).accessToken();
+        CustomUserDetails principal = (CustomUserDetails) claimsProvider.getAuthentication(accessToken).getPrincipal();
+
+        // then
+        assertThat(principal.getProjects()).isNull();
+        assertThat(principal.getMembershipEpoch()).isNull();
+    }
+}
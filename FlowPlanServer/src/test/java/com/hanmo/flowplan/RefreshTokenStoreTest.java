@@ -0,0 +1,119 @@
+package com.hanmo.flowplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hanmo.flowplan.user.infrastructure.InMemoryRefreshTokenStore;
+import com.hanmo.flowplan.user.infrastructure.JdbcRefreshTokenStore;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    private static final String GOOGLE_ID = "gid-123";
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[memory] 최신 RT만 일치하고, 만료 시간이 지나거나 삭제하면 더 이상 일치하지 않는다.")
+    void 메모리_저장소_최신RT_만료_삭제() {
+        // given: 직접 조작하는 시계
+        AtomicLong nanos = new AtomicLong();
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(100, Duration.ofMinutes(10), nanos::get);
+        store.save(GOOGLE_ID, "RT-old");
+        store.save(GOOGLE_ID, "RT-new");
+
+        // when & then: 재발급으로 덮어쓴 이전 RT는 거부
+        assertThat(store.matches(GOOGLE_ID, "RT-old")).isFalse();
+        assertThat(store.matches(GOOGLE_ID, "RT-new")).isTrue();
+        assertThat(store.matches(GOOGLE_ID, null)).isFalse();
+        assertThat(store.matches("other", "RT-new")).isFalse();
+
+        // 만료 시간 경과
+        nanos.addAndGet(Duration.ofMinutes(10).plusSeconds(1).toNanos());
+        assertThat(store.matches(GOOGLE_ID, "RT-new")).isFalse();
+
+        // 로그아웃 삭제
+        store.save(GOOGLE_ID, "RT-again");
+        store.delete(GOOGLE_ID);
+        assertThat(store.matches(GOOGLE_ID, "RT-again")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[jdbc] 원문 대신 SHA-256 해시를 저장하고, 만료되지 않은 해시와 비교한다.")
+    void JDBC_저장소_해시_저장_비교() {
+        // given
+        JdbcRefreshTokenStore store = new JdbcRefreshTokenStore(jdbcTemplate, 100);
+
+        // when
+        store.save(GOOGLE_ID, "RT-yyy");
+
+        // then: 원문은 DB로 나가지 않음
+        ArgumentCaptor<Object> params = ArgumentCaptor.forClass(Object.class);
+        then(jdbcTemplate).should().update(anyString(), params.capture(), params.capture(), params.capture());
+        assertThat(params.getAllValues().get(0)).isEqualTo(GOOGLE_ID);
+        assertThat(params.getAllValues().get(1)).isEqualTo(sha256("RT-yyy"));
+
+        // 조회는 만료 시각 조건과 함께 해시로 비교
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(GOOGLE_ID), any()))
+                .willReturn(List.of(sha256("RT-yyy")));
+        assertThat(store.matches(GOOGLE_ID, "RT-yyy")).isTrue();
+        assertThat(store.matches(GOOGLE_ID, "RT-other")).isFalse();
+        assertThat(store.matches(GOOGLE_ID, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[jdbc] 만료/삭제된 RT는 조회 결과가 없으므로 일치하지 않는다.")
+    void JDBC_저장소_만료_RT_불일치() {
+        // given
+        JdbcRefreshTokenStore store = new JdbcRefreshTokenStore(jdbcTemplate, 100);
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(GOOGLE_ID), any()))
+                .willReturn(List.of());
+
+        // when & then
+        assertThat(store.matches(GOOGLE_ID, "RT-yyy")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[jdbc] 만료 RT 정리는 배치 크기만큼 나눠 삭제하고, 배치보다 적게 지워지면 멈춘다.")
+    void JDBC_저장소_만료_RT_배치_삭제() {
+        // given: 배치 2개 -> 2, 2, 1 건 삭제
+        JdbcRefreshTokenStore store = new JdbcRefreshTokenStore(jdbcTemplate, 2);
+        given(jdbcTemplate.update(anyString(), any(), eq(2))).willReturn(2, 2, 1);
+
+        // when
+        store.purgeExpired();
+
+        // then
+        then(jdbcTemplate).should(times(3)).update(anyString(), any(), eq(2));
+        then(jdbcTemplate).should(never()).update(anyString(), any(), eq(1));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.hanmo.flowplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hanmo.flowplan.global.jwt.TokenRevocationList;
+import com.hanmo.flowplan.user.domain.RevokedToken;
+import com.hanmo.flowplan.user.domain.RevokedTokenRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(revokedTokenRepository, new TransactionTemplate(transactionManager), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("[isRevoked] 폐기 목록에 없는 토큰은 DB를 조회하지 않고 통과한다.")
+    void 폐기되지_않은_토큰은_DB조회_없음() {
+        // given
+        revocationList.revoke("revoked-jti", Instant.now().plusSeconds(600));
+
+        // when: 정상 토큰 1000개
+        int revoked = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (revocationList.isRevoked(UUID.randomUUID().toString())) {
+                revoked++;
+            }
+        }
+
+        // then: Bloom filter 에서 대부분 걸러짐 (오탐 시에만 DB 확인)
+        assertThat(revoked).isZero();
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("[isRevoked] 이 서버에서 로그아웃으로 폐기한 토큰은 DB 조회 없이 즉시 거부된다.")
+    void 폐기된_토큰은_거부() {
+        // given
+        revocationList.revoke("revoked-jti", Instant.now().plusSeconds(600));
+
+        // when & then
+        assertThat(revocationList.isRevoked("revoked-jti")).isTrue();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("[rebuild] 다른 서버에서 폐기한 토큰도 필터 재구성 후 거부된다.")
+    void 재구성하면_다른_서버_폐기도_반영() {
+        // given
+        given(revokedTokenRepository.findActiveJtis(any())).willReturn(List.of("other-node-jti"));
+        given(revokedTokenRepository.existsById("other-node-jti")).willReturn(true);
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        assertThat(revocationList.isRevoked("other-node-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[rebuild] 재구성용 DB 읽기 이후(또는 커밋 전)에 이 서버에서 폐기한 토큰도 필터 교체 후 계속 거부된다.")
+    void 재구성_중_폐기도_유지() {
+        // given: 활성 목록을 읽은 직후 로그아웃이 들어옴 (읽은 결과에는 없음)
+        given(revokedTokenRepository.findActiveJtis(any())).willAnswer(invocation -> {
+            revocationList.revoke("during-rebuild-jti", Instant.now().plusSeconds(600));
+            return List.of();
+        });
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        assertThat(revocationList.isRevoked("during-rebuild-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[rebuild] DB 읽기에 포함된 폐기 기록은 로컬 목록에서 빠지고, 필터 + DB 확인으로 거부된다.")
+    void DB에_반영된_폐기는_필터로_확인() {
+        // given
+        revocationList.revoke("persisted-jti", Instant.now().plusSeconds(600));
+        given(revokedTokenRepository.findActiveJtis(any())).willReturn(List.of("persisted-jti"));
+        given(revokedTokenRepository.existsById("persisted-jti")).willReturn(true);
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        assertThat(revocationList.isRevoked("persisted-jti")).isTrue();
+        verify(revokedTokenRepository).existsById("persisted-jti");
+    }
+
+    @Test
+    @DisplayName("[rebuild] 만료 기록 삭제만 트랜잭션으로 커밋한 뒤, 활성 목록은 트랜잭션 밖에서 (최신 커밋 기준으로) 읽는다.")
+    void 삭제만_트랜잭션_읽기는_밖에서() {
+        // given
+        given(revokedTokenRepository.findActiveJtis(any())).willReturn(List.of());
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, revokedTokenRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(revokedTokenRepository).deleteExpired(any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(revokedTokenRepository).findActiveJtis(any());
+    }
+}
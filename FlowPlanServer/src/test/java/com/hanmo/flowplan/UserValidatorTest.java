@@ -0,0 +1,131 @@
+package com.hanmo.flowplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hanmo.flowplan.global.annotation.CurrentUserIdArgumentResolver;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
+import com.hanmo.flowplan.task.application.validator.TaskValidator;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.user.application.CurrentUserContext;
+import com.hanmo.flowplan.user.application.validator.UserValidator;
+import com.hanmo.flowplan.user.domain.User;
+import com.hanmo.flowplan.user.domain.UserRepository;
+import com.hanmo.flowplan.user.domain.UserRole;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@ExtendWith(MockitoExtension.class)
+class UserValidatorTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String GOOGLE_ID = "google-123";
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    TaskRepository taskRepository;
+
+    @Mock
+    ProjectMemberValidator projectMemberValidator;
+
+    CurrentUserContext currentUserContext = new CurrentUserContext();
+    UserValidator userValidator;
+    TaskValidator taskValidator;
+    CurrentUserIdArgumentResolver resolver;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        userValidator = new UserValidator(userRepository, currentUserContext);
+        taskValidator = new TaskValidator(taskRepository, userRepository, projectMemberValidator, currentUserContext);
+        resolver = new CurrentUserIdArgumentResolver(currentUserContext);
+        user = User.builder().googleId(GOOGLE_ID).email(EMAIL).name("user").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    private String resolveCurrentUserIdInRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        CustomUserDetails principal = new CustomUserDetails(USER_ID, GOOGLE_ID, EMAIL, UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return (String) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+
+    @Test
+    @DisplayName("요청에서 @CurrentUserId 로 확인된 사용자는 검증기들이 다시 조회하지 않는다. (사용자 조회 0회)")
+    void 요청당_사용자_조회_0회() {
+        // given
+        String googleId = resolveCurrentUserIdInRequest();
+        given(userRepository.getReferenceById(USER_ID)).willReturn(user);
+
+        // when: 한 요청 안에서 여러 검증기가 현재 사용자를 필요로 함
+        User fromUserValidator = userValidator.getUserReference(googleId);
+        userValidator.getUserReference(googleId);
+        User assignee = taskValidator.validateAndGetAssignee(Project.builder().owner(user).projectName("p").build(), EMAIL);
+
+        // then
+        assertThat(googleId).isEqualTo(GOOGLE_ID);
+        assertThat(fromUserValidator).isSameAs(user);
+        assertThat(assignee).isSameAs(user);
+        then(userRepository).should(never()).findByGoogleId(anyString());
+        then(userRepository).should(never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("요청 밖(또는 다른 사용자)이면 기존처럼 한 번 조회한다.")
+    void 요청_밖에서는_조회() {
+        // given
+        given(userRepository.findByGoogleId(GOOGLE_ID)).willReturn(Optional.of(user));
+
+        // when
+        User found = userValidator.getUserReference(GOOGLE_ID);
+
+        // then
+        assertThat(found).isSameAs(user);
+        then(userRepository).should(times(1)).findByGoogleId(GOOGLE_ID);
+        then(userRepository).should(never()).getReferenceById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("사용자 엔티티가 필요한 경로(프로젝트 생성 등)는 요청에서 확인된 사용자여도 조회하고, 삭제된 사용자는 바로 실패한다.")
+    void 엔티티가_필요하면_항상_조회() {
+        // given: 토큰 발급 이후 삭제된 사용자
+        String googleId = resolveCurrentUserIdInRequest();
+        given(userRepository.findByGoogleId(googleId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userValidator.validateAndGetUser(googleId))
+                .isInstanceOf(UsernameNotFoundException.class);
+        then(userRepository).should(never()).getReferenceById(USER_ID);
+    }
+}
@@ -0,0 +1,108 @@
+package com.hanmo.flowplan.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hanmo.flowplan.ai.infrastructure.config.AiConfig;
+import com.hanmo.flowplan.ai.infrastructure.config.AiHttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class AiHttpClientTest {
+
+    HttpServer aiServer;
+    CountDownLatch hang = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // AI 서버 대역: /ok 는 바로 응답, /hang 은 응답하지 않음
+        aiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiServer.createContext("/ok", exchange -> {
+            byte[] body = "{\"markdownSpec\":\"# spec\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        aiServer.createContext("/hang", exchange -> {
+            try {
+                hang.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        aiServer.setExecutor(Executors.newCachedThreadPool());
+        aiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hang.countDown();
+        aiServer.stop(0);
+    }
+
+    @DisplayName("엔드포인트별 설정이 공통 설정보다 우선한다.")
+    @Test
+    void 엔드포인트별_설정_우선() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ai.http.response-timeout-ms", "1000")
+                .withProperty("ai.http.wbs.response-timeout-ms", "5000")
+                .withProperty("ai.http.max-per-route", "7");
+
+        AiHttpClientProperties spec = AiHttpClientProperties.of(environment, AiConfig.SPEC_ENDPOINT);
+        AiHttpClientProperties wbs = AiHttpClientProperties.of(environment, AiConfig.WBS_ENDPOINT);
+
+        assertThat(spec.responseTimeout()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(wbs.responseTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(wbs.maxPerRoute()).isEqualTo(7);
+        assertThat(wbs.connectTimeout()).isEqualTo(Duration.ofSeconds(3)); // 기본값
+    }
+
+    @DisplayName("AI 서버가 응답하지 않으면 응답 타임아웃으로 끊고, 풀 지표를 노출한다.")
+    @Test
+    void 응답없는_AI_서버_타임아웃() throws Exception {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ai.http.spec.response-timeout-ms", "300")
+                .withProperty("ai.http.spec.max-total", "4");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (CloseableHttpClient httpClient = AiConfig.createHttpClient(
+                AiHttpClientProperties.of(environment, AiConfig.SPEC_ENDPOINT), meterRegistry)) {
+            RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+            // when & then: 정상 응답은 그대로
+            assertThat(restTemplate.getForObject(url("/ok"), String.class)).contains("# spec");
+
+            // when & then: 멈춘 서버는 타임아웃 (서버의 10초 대기보다 훨씬 빨리)
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> restTemplate.getForObject(url("/hang"), String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+            // then: 풀 지표
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "ai-spec").gauge().value()).isEqualTo(4.0);
+        }
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + aiServer.getAddress().getPort() + path;
+    }
+}
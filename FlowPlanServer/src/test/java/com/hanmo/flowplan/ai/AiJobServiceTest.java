@@ -0,0 +1,266 @@
+package com.hanmo.flowplan.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+
+import com.hanmo.flowplan.ai.application.AiJobNotifier;
+import com.hanmo.flowplan.ai.application.AiJobService;
+import com.hanmo.flowplan.ai.application.AiJobService.AiJobResult;
+import com.hanmo.flowplan.ai.application.dto.AiJobResponse;
+import com.hanmo.flowplan.ai.domain.AiJob;
+import com.hanmo.flowplan.ai.domain.AiJobRepository;
+import com.hanmo.flowplan.ai.domain.AiJobStatus;
+import com.hanmo.flowplan.ai.domain.AiJobType;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AiJobServiceTest {
+
+    private static final String USER = "google-1";
+    private static final String INSTANCE = "node-1";
+    private static final Duration STALE_AFTER = Duration.ofMinutes(30);
+
+    @Mock
+    AiJobRepository aiJobRepository;
+
+    @Mock
+    AiJobNotifier aiJobNotifier;
+
+    // ai_jobs 테이블 대역
+    final Map<Long, AiJob> jobs = new ConcurrentHashMap<>();
+    final AtomicLong sequence = new AtomicLong();
+    final CountDownLatch release = new CountDownLatch(1);
+
+    AiJobService aiJobService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(aiJobRepository.save(any(AiJob.class))).thenAnswer(invocation -> {
+            AiJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                ReflectionTestUtils.setField(job, "id", sequence.incrementAndGet());
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        lenient().when(aiJobRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+        lenient().when(aiJobRepository.findByIdAndRequesterGoogleId(anyLong(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0)))
+                        .filter(job -> job.getRequesterGoogleId().equals(invocation.getArgument(1))));
+        // 조건부 상태 전이 UPDATE 대역 (현재 상태가 기대한 상태일 때만 1건)
+        lenient().when(aiJobRepository.markRunning(anyLong(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> transition(invocation.getArgument(0), AiJobStatus.QUEUED, AiJobStatus.RUNNING,
+                        Map.of()));
+        lenient().when(aiJobRepository.markSucceeded(anyLong(), any(), any(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> transition(invocation.getArgument(0), AiJobStatus.RUNNING, AiJobStatus.SUCCEEDED,
+                        resultFields(invocation.getArgument(1), invocation.getArgument(2))));
+        lenient().when(aiJobRepository.markFailed(anyLong(), any(AiJobStatus.class), any(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> transition(invocation.getArgument(0), invocation.getArgument(1), AiJobStatus.FAILED,
+                        Map.of()));
+
+        // 워커 1개, 대기열 1개, 사용자별 2개, 30분 동안 갱신 없으면 중단된 작업
+        aiJobService = new AiJobService(aiJobRepository, aiJobNotifier, 1, 1, 2, INSTANCE, STALE_AFTER.toMillis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        aiJobService.shutdown();
+    }
+
+    @DisplayName("작업을 제출하면 바로 QUEUED 로 반환되고, 워커에서 실행한 결과가 저장되고 완료 알림이 전송된다.")
+    @Test
+    void 작업_제출_후_결과_저장() {
+        // when
+        AiJobResponse submitted = aiJobService.submit(USER, AiJobType.SPEC, null, () -> {
+            waitFor(release);
+            return new AiJobResult(7L, "# spec");
+        });
+
+        // then: 요청 스레드는 AI 응답을 기다리지 않음
+        assertThat(submitted.status()).isEqualTo(AiJobStatus.QUEUED);
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> aiJobService.getJob(submitted.jobId(), USER).status() == AiJobStatus.SUCCEEDED);
+
+        AiJobResponse done = aiJobService.getJob(submitted.jobId(), USER);
+        assertThat(done.projectId()).isEqualTo(7L);
+        assertThat(done.result()).isEqualTo("# spec");
+        then(aiJobNotifier).should().complete(eq(submitted.jobId()), any(AiJobResponse.class));
+    }
+
+    @DisplayName("사용자별 동시 작업 한도를 넘으면 429, 작업이 끝나면 다시 제출할 수 있다.")
+    @Test
+    void 사용자별_동시_작업_한도() {
+        // given: 실행 중 1개 + 대기 1개
+        aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased);
+        aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased);
+
+        // when & then
+        assertThatThrownBy(() -> aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_AI_JOBS);
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> jobs.values().stream().allMatch(job -> job.getStatus().isFinished()));
+        assertThat(aiJobService.submit(USER, AiJobType.WBS, 1L, () -> new AiJobResult(1L, null)).status())
+                .isEqualTo(AiJobStatus.QUEUED);
+    }
+
+    @DisplayName("워커와 대기열이 모두 차면 429 로 거절하고, 저장된 작업은 실패로 남긴다.")
+    @Test
+    void 대기열_가득_차면_거절() {
+        // given: 워커 1개 실행 중 + 대기열 1개 (서로 다른 사용자)
+        aiJobService.submit("google-a", AiJobType.WBS, 1L, this::blockUntilReleased);
+        aiJobService.submit("google-b", AiJobType.WBS, 1L, this::blockUntilReleased);
+
+        // when & then
+        assertThatThrownBy(() -> aiJobService.submit("google-c", AiJobType.WBS, 1L, this::blockUntilReleased))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_AI_JOBS);
+        assertThat(jobs.get(3L).getStatus()).isEqualTo(AiJobStatus.FAILED);
+    }
+
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다.")
+    @Test
+    void 다른_사용자_작업_조회_불가() {
+        AiJobResponse submitted = aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased);
+
+        assertThatThrownBy(() -> aiJobService.getJob(submitted.jobId(), "google-other"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_JOB_NOT_FOUND);
+    }
+
+    @DisplayName("재시작 시에는 이 인스턴스의 작업과 오래 갱신이 없는 작업만 실패 처리하고, 주기 정리는 오래된 작업만 처리한다.")
+    @Test
+    void 중단된_작업_정리_범위() {
+        // given
+        AiJobResponse submitted = aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased);
+        assertThat(jobs.get(submitted.jobId()).getOwnerInstance()).isEqualTo(INSTANCE);
+
+        // when
+        aiJobService.failInterruptedJobs();
+        aiJobService.failStaleJobs();
+
+        // then
+        ArgumentCaptor<LocalDateTime> startupCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> startupNow = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(aiJobRepository).should()
+                .failInterrupted(eq(INSTANCE), startupCutoff.capture(), anyString(), startupNow.capture());
+        assertThat(startupCutoff.getValue()).isEqualTo(startupNow.getValue().minus(STALE_AFTER));
+
+        ArgumentCaptor<LocalDateTime> scheduledCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> scheduledNow = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(aiJobRepository).should()
+                .failStale(scheduledCutoff.capture(), anyString(), scheduledNow.capture());
+        assertThat(scheduledCutoff.getValue()).isEqualTo(scheduledNow.getValue().minus(STALE_AFTER));
+    }
+
+    @DisplayName("실행 중에 정리 작업이 실패 처리한 작업은 워커가 끝나도 SUCCEEDED 로 바뀌지 않고, 완료 알림도 보내지 않는다.")
+    @Test
+    void 정리된_작업은_성공으로_덮어쓰지_않음() {
+        // given: 실행 중인 작업
+        AiJobResponse submitted = aiJobService.submit(USER, AiJobType.WBS, 1L, this::blockUntilReleased);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> jobs.get(submitted.jobId()).getStatus() == AiJobStatus.RUNNING);
+
+        // when: 주기 정리(failStale)가 먼저 실패 처리한 뒤 워커가 끝남
+        ReflectionTestUtils.setField(jobs.get(submitted.jobId()), "status", AiJobStatus.FAILED);
+        release.countDown();
+
+        // then
+        then(aiJobRepository).should(timeout(5000))
+                .markSucceeded(eq(submitted.jobId()), eq(1L), any(), any(LocalDateTime.class));
+        assertThat(jobs.get(submitted.jobId()).getStatus()).isEqualTo(AiJobStatus.FAILED);
+        then(aiJobNotifier).should(after(200).never()).complete(anyLong(), any(AiJobResponse.class));
+    }
+
+    @DisplayName("대기 중에 정리 작업이 실패 처리한 작업은 워커가 실행하지 않는다.")
+    @Test
+    void 정리된_대기_작업은_실행하지_않음() {
+        // given: 워커 1개를 막아 두고 두 번째 작업은 대기열에
+        aiJobService.submit("google-a", AiJobType.WBS, 1L, this::blockUntilReleased);
+        AtomicBoolean executed = new AtomicBoolean();
+        AiJobResponse queued = aiJobService.submit("google-b", AiJobType.WBS, 1L, () -> {
+            executed.set(true);
+            return new AiJobResult(1L, null);
+        });
+
+        // when: 대기 중에 실패 처리된 뒤 워커가 비워짐
+        ReflectionTestUtils.setField(jobs.get(queued.jobId()), "status", AiJobStatus.FAILED);
+        release.countDown();
+
+        // then
+        then(aiJobRepository).should(timeout(5000)).markRunning(eq(queued.jobId()), any(LocalDateTime.class));
+        assertThat(executed).isFalse();
+        assertThat(jobs.get(queued.jobId()).getStatus()).isEqualTo(AiJobStatus.FAILED);
+        then(aiJobNotifier).should(after(200).never()).complete(eq(queued.jobId()), any(AiJobResponse.class));
+    }
+
+    private int transition(Long jobId, AiJobStatus expected, AiJobStatus next, Map<String, Object> fields) {
+        AiJob job = jobs.get(jobId);
+        synchronized (jobs) {
+            if (job == null || job.getStatus() != expected) {
+                return 0;
+            }
+            ReflectionTestUtils.setField(job, "status", next);
+            fields.forEach((name, value) -> ReflectionTestUtils.setField(job, name, value));
+            return 1;
+        }
+    }
+
+    private static Map<String, Object> resultFields(Long projectId, String result) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("projectId", projectId);
+        fields.put("result", result);
+        return fields;
+    }
+
+    private AiJobResult blockUntilReleased() {
+        waitFor(release);
+        return new AiJobResult(1L, null);
+    }
+
+    private static void waitFor(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
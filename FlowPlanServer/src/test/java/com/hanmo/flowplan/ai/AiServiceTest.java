@@ -0,0 +1,213 @@
+package com.hanmo.flowplan.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanmo.flowplan.ai.application.AiClient;
+import com.hanmo.flowplan.ai.application.AiResponseCache;
+import com.hanmo.flowplan.ai.application.AiResponseStore;
+import com.hanmo.flowplan.ai.application.AiService;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecResponseDto;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsRequestDto;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+@ExtendWith(MockitoExtension.class)
+class AiServiceTest {
+
+    private static final int CALLERS = 4;
+
+    @Mock
+    AiClient aiClient;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    // 2차 저장소 대역 (ai_response_cache 테이블)
+    static class InMemoryResponseStore implements AiResponseStore {
+
+        final Map<String, byte[]> rows = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<byte[]> find(String key) {
+            return Optional.ofNullable(rows.get(key));
+        }
+
+        @Override
+        public void save(String key, byte[] payload, LocalDateTime expiresAt) {
+            rows.put(key, payload);
+        }
+    }
+
+    @DisplayName("같은 입력으로 명세서를 다시 요청하면 AI 서버를 호출하지 않고 캐시된 응답을 반환한다.")
+    @Test
+    void 같은_입력은_캐시_반환() {
+        // given
+        AiService aiService = new AiService(aiClient, cache(null), meterRegistry);
+        given(aiClient.generateMarkdownSpec(specRequest("req")))
+                .willReturn(new AiSpecResponseDto("# spec"));
+
+        // when
+        AiSpecResponseDto first = aiService.generateMarkdownSpec(specRequest("req"));
+        AiSpecResponseDto second = aiService.generateMarkdownSpec(specRequest("req"));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        then(aiClient).should(times(1)).generateMarkdownSpec(any());
+    }
+
+    @DisplayName("입력이 다르면 다시 생성하고, refresh 요청은 캐시를 읽지 않고 새 응답으로 덮어쓴다.")
+    @Test
+    void 입력이_다르거나_refresh_이면_재생성() {
+        // given
+        AiService aiService = new AiService(aiClient, cache(null), meterRegistry);
+        given(aiClient.generateMarkdownSpec(any()))
+                .willReturn(new AiSpecResponseDto("v1"), new AiSpecResponseDto("v2"), new AiSpecResponseDto("v3"));
+
+        // when
+        aiService.generateMarkdownSpec(specRequest("req"));
+        aiService.generateMarkdownSpec(specRequest("changed"));
+        AiSpecResponseDto refreshed = aiService.generateMarkdownSpec(specRequest("req"), true);
+
+        // then
+        assertThat(refreshed.markdownSpec()).isEqualTo("v3");
+        assertThat(aiService.generateMarkdownSpec(specRequest("req")).markdownSpec()).isEqualTo("v3");
+        then(aiClient).should(times(3)).generateMarkdownSpec(any());
+    }
+
+    @DisplayName("메모리 캐시에 없어도 압축 저장소에 있으면 AI 호출 없이 복원한다. (재시작/다른 서버)")
+    @Test
+    void 압축_저장소에서_복원() {
+        // given
+        InMemoryResponseStore store = new InMemoryResponseStore();
+        AiWbsResponseDto wbs = new AiWbsResponseDto("proj", 1, List.of(
+                new AiWbsResponseDto.TaskDto("1", null, "설계", "Backend", "2025-01-01", "2025-01-03", 3, 0, "TODO")));
+        given(aiClient.generateWbsFromMarkdown(new AiWbsRequestDto("# spec"))).willReturn(wbs);
+        new AiService(aiClient, cache(store), meterRegistry).generateWbsFromMarkdown("# spec");
+
+        // when: 메모리 캐시가 비어 있는 새 인스턴스
+        AiWbsResponseDto restored = new AiService(aiClient, cache(store), meterRegistry).generateWbsFromMarkdown("# spec");
+
+        // then
+        assertThat(restored).isEqualTo(wbs);
+        then(aiClient).should(times(1)).generateWbsFromMarkdown(any());
+        byte[] payload = store.rows.values().iterator().next();
+        assertThat(payload[0]).isEqualTo((byte) 0x1f); // gzip
+        assertThat(payload[1]).isEqualTo((byte) 0x8b);
+    }
+
+    @DisplayName("같은 입력의 동시 요청은 AI 서버를 한 번만 호출하고, 모두 같은 결과를 받는다.")
+    @Test
+    void 동시_요청은_한번만_호출() throws Exception {
+        // given: 첫 호출이 응답을 기다리는 동안 같은 요청이 더 들어옴 (더블 클릭, 여러 탭)
+        AiService aiService = new AiService(aiClient, cache(null), meterRegistry);
+        AiSpecResponseDto response = new AiSpecResponseDto("# spec");
+        given(aiClient.generateMarkdownSpec(any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        // when
+        List<Future<AiSpecResponseDto>> results = submitAll(() -> aiService.generateMarkdownSpec(specRequest("req")));
+        await().atMost(Duration.ofSeconds(5)).until(() -> deduplicated("spec") == CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<AiSpecResponseDto> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        then(aiClient).should(times(1)).generateMarkdownSpec(any());
+    }
+
+    @DisplayName("진행 중인 호출이 실패하면 기다리던 요청도 같은 예외를 받고, 이후 요청은 다시 호출한다.")
+    @Test
+    void 동시_요청은_같은_예외() throws Exception {
+        // given
+        AiService aiService = new AiService(aiClient, cache(null), meterRegistry);
+        BusinessException failure = new BusinessException(ErrorCode.AI_SERVER_ERROR);
+        AiWbsResponseDto wbs = new AiWbsResponseDto("proj", 0, List.of());
+        given(aiClient.generateWbsFromMarkdown(any()))
+                .willAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    throw failure;
+                })
+                .willReturn(wbs);
+
+        // when
+        List<Future<AiWbsResponseDto>> results = submitAll(() -> aiService.generateWbsFromMarkdown("# spec"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> deduplicated("wbs") == CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<AiWbsResponseDto> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .satisfies(e -> assertThat(e.getCause()).isSameAs(failure));
+        }
+        assertThat(aiService.generateWbsFromMarkdown("# spec")).isEqualTo(wbs); // 실패는 공유/캐시되지 않음
+        then(aiClient).should(times(2)).generateWbsFromMarkdown(any());
+    }
+
+    private <T> List<Future<T>> submitAll(Callable<T> call) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(call));
+        }
+        return results;
+    }
+
+    private double deduplicated(String type) {
+        return meterRegistry.get("ai.requests.deduplicated").tag("type", type).counter().count();
+    }
+
+    private static AiResponseCache cache(AiResponseStore store) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        if (store != null) {
+            beanFactory.registerSingleton("aiResponseStore", store);
+        }
+        return new AiResponseCache(100, 60, beanFactory.getBeanProvider(AiResponseStore.class),
+                new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static AiSpecRequestDto specRequest(String requirements) {
+        return new AiSpecRequestDto("project", "web", 3, 30, "2025-01-01", "2025-01-31", "100",
+                "높음", List.of("PM"), List.of("API"), List.of("일정"), requirements);
+    }
+}
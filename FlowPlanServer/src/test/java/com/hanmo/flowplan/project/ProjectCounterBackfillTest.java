@@ -0,0 +1,127 @@
+package com.hanmo.flowplan.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hanmo.flowplan.project.application.ProjectCounterBackfill;
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.project.infrastructure.ProjectCounterJdbcRepository;
+import com.hanmo.flowplan.projectMember.domain.ProjectMember;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.support.SqlStatementCounter;
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 카운터 컬럼 추가 이전 프로젝트의 기동 시 1회 보정 + 멤버 수 하한 검증 (인메모리 DB)
+ */
+@DataJpaTest
+@Import({SqlStatementCounter.class, ProjectCounterJdbcRepository.class, ProjectCounterBackfill.class})
+class ProjectCounterBackfillTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    ProjectCounterBackfill projectCounterBackfill;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    @DisplayName("카운터가 0 인 채로 남은 기존 프로젝트는 보정 작업 설정과 관계없이 기동 시 멤버 수/상태별 작업 수가 채워진다.")
+    @Test
+    void 기존_프로젝트_카운터_채우기() {
+        // given: 카운터 컬럼 추가 이전 행 (멤버 2명, 작업 3개인데 카운터는 모두 0)
+        User owner = persistUser("owner");
+        User editor = persistUser("editor");
+        Project project = persistProject(owner);
+        persistMember(owner, project, ProjectRole.OWNER);
+        persistMember(editor, project, ProjectRole.EDITOR);
+        persistTask(project, TaskStatus.TODO);
+        persistTask(project, TaskStatus.IN_PROGRESS);
+        persistTask(project, TaskStatus.DONE);
+        entityManager.flush();
+
+        // when
+        projectCounterBackfill.backfill();
+
+        // then
+        Map<String, Object> counters = jdbcTemplate.queryForMap("SELECT member_count, task_count, todo_task_count, "
+                + "in_progress_task_count, done_task_count FROM projects WHERE id = ?", project.getId());
+        assertThat(counters).containsEntry("MEMBER_COUNT", 2)
+                .containsEntry("TASK_COUNT", 3)
+                .containsEntry("TODO_TASK_COUNT", 1)
+                .containsEntry("IN_PROGRESS_TASK_COUNT", 1)
+                .containsEntry("DONE_TASK_COUNT", 1);
+    }
+
+    @DisplayName("채울 프로젝트가 없으면 EXISTS 조회 한 번으로 끝난다.")
+    @Test
+    void 채울_프로젝트_없으면_조회_한번() {
+        // given: 이미 카운터가 맞는 프로젝트
+        User owner = persistUser("owner");
+        Project project = persistProject(owner);
+        persistMember(owner, project, ProjectRole.OWNER);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE projects SET member_count = 1 WHERE id = ?", project.getId());
+        sqlStatementCounter.reset();
+
+        // when
+        projectCounterBackfill.backfill();
+
+        // then
+        assertThat(sqlStatementCounter.statements()).hasSize(1);
+    }
+
+    @DisplayName("멤버 수가 어긋나 0 인 프로젝트에서 멤버가 나가도 멤버 수는 0 미만으로 내려가지 않는다.")
+    @Test
+    void 멤버_수_하한() {
+        // given
+        Project project = persistProject(persistUser("owner"));
+        entityManager.flush();
+
+        // when
+        projectRepository.adjustMemberCount(project.getId(), -1);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT member_count FROM projects WHERE id = ?", Integer.class,
+                project.getId())).isZero();
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder().email(name + "@test.com").name(name).googleId("google-" + name).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Project persistProject(User owner) {
+        Project project = Project.builder().owner(owner).projectName("project").build();
+        entityManager.persist(project);
+        return project;
+    }
+
+    private void persistMember(User user, Project project, ProjectRole role) {
+        entityManager.persist(ProjectMember.builder().user(user).project(project).role(role).build());
+    }
+
+    private void persistTask(Project project, TaskStatus status) {
+        Task task = Task.builder().project(project).name(status.name()).progress(0).status(status).build();
+        task.assignPath();
+        entityManager.persist(task);
+    }
+}
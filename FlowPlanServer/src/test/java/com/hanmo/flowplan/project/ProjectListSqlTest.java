@@ -0,0 +1,79 @@
+package com.hanmo.flowplan.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hanmo.flowplan.project.application.dto.ProjectListResponse;
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.projectMember.domain.ProjectMember;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.support.SqlStatementCounter;
+import com.hanmo.flowplan.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 프로젝트 목록(GET /api/projects) 조회가 실제로 보내는 SQL 검증 (인메모리 DB, 실제 Hibernate)
+ */
+@DataJpaTest
+@Import(SqlStatementCounter.class)
+class ProjectListSqlTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    @DisplayName("내 프로젝트 목록은 프로젝트 수와 관계없이 SELECT 1개로, 최근 수정 순(같으면 id 역순)으로 조회한다.")
+    @Test
+    void 프로젝트_목록_단일_쿼리_정렬() {
+        // given: 내가 멤버인 프로젝트 3개 + 다른 사람만 있는 프로젝트 1개
+        User me = persistUser("me");
+        User other = persistUser("other");
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Long oldest = persistProject(me, "oldest", base);
+        Long tieLow = persistProject(me, "tie-low", base.plusDays(1));
+        Long tieHigh = persistProject(me, "tie-high", base.plusDays(1));
+        persistProject(other, "not-mine", base.plusDays(2));
+        entityManager.clear();
+        sqlStatementCounter.reset();
+
+        // when
+        List<ProjectListResponse> result = projectMemberRepository.findProjectList("google-me");
+
+        // then
+        assertThat(result).extracting(ProjectListResponse::id).containsExactly(tieHigh, tieLow, oldest);
+        assertThat(sqlStatementCounter.statements()).hasSize(1);
+        assertThat(sqlStatementCounter.statements("select", "projects")).hasSize(1);
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder().email(name + "@test.com").name(name).googleId("google-" + name).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Long persistProject(User owner, String name, LocalDateTime updatedAt) {
+        Project project = Project.builder().owner(owner).projectName(name).build();
+        entityManager.persist(project);
+        entityManager.persist(ProjectMember.builder().user(owner).project(project).role(ProjectRole.OWNER).build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE projects SET updated_at = ? WHERE id = ?", Timestamp.valueOf(updatedAt), project.getId());
+        return project.getId();
+    }
+}
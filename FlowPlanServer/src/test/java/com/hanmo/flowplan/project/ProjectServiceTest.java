@@ -1,42 +1,57 @@
 package com.hanmo.flowplan.project;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.hanmo.flowplan.ai.application.AiDtoMapper;
+import com.hanmo.flowplan.ai.application.AiJobService;
 import com.hanmo.flowplan.ai.application.AiService;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecRequestDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiSpecResponseDto;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
 import com.hanmo.flowplan.project.application.ProjectService;
 import com.hanmo.flowplan.project.application.dto.CreateProjectWithSpecResponse;
 import com.hanmo.flowplan.project.application.dto.ProjectListResponse;
+import com.hanmo.flowplan.project.application.dto.ProjectSliceResponse;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.ProjectPriority;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
 import com.hanmo.flowplan.project.presentation.dto.CreateProjectRequest;
 import com.hanmo.flowplan.project.presentation.dto.GenerateWbsRequestDto;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.task.application.TaskService;
+import com.hanmo.flowplan.user.application.MembershipEpochService;
 import com.hanmo.flowplan.user.application.validator.UserValidator;
 import com.hanmo.flowplan.user.domain.User;
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
+import java.sql.Connection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class ProjectServiceTest {
@@ -65,6 +80,50 @@ public class ProjectServiceTest {
     @Mock
     ProjectMemberValidator projectMemberValidator;
 
+    @Mock
+    ProjectMembershipCache projectMembershipCache;
+
+    @Mock
+    MembershipEpochService membershipEpochService;
+
+    @Mock
+    AiJobService aiJobService;
+
+    ConnectionPoolStandIn connectionPool = new ConnectionPoolStandIn();
+
+    @Spy
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(connectionPool));
+
+    /**
+     * 커넥션 풀 대역 - 빌려간(아직 close 되지 않은) 커넥션 수만 셈
+     */
+    static class ConnectionPoolStandIn extends AbstractDataSource {
+
+        final AtomicInteger borrowed = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() {
+            borrowed.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "close" -> {
+                            borrowed.decrementAndGet();
+                            yield null;
+                        }
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "connection-stand-in";
+                        default -> method.getReturnType() == boolean.class ? false
+                                : method.getReturnType() == int.class ? 0 : null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+
     @DisplayName("프로젝트 생성 후 AI 스펙 문서를 생성한다.")
     @Test
     void 프로젝트_생성_및_스펙_생성_테스트() {
@@ -128,11 +187,11 @@ public class ProjectServiceTest {
         given(userValidator.validateAndGetUser(userId)).willReturn(owner);
         given(projectRepository.save(any(Project.class))).willReturn(savedProject);
         given(aiDtoMapper.toSpecRequestDto(savedProject)).willReturn(aiSpecRequestDto);
-        given(aiService.generateMarkdownSpec(aiSpecRequestDto)).willReturn(aiSpecResponseDto);
+        given(aiService.generateMarkdownSpec(aiSpecRequestDto, false)).willReturn(aiSpecResponseDto);
 
         // when
         CreateProjectWithSpecResponse result =
-                projectService.createProjectAndGenerateSpec(createProjectRequest, userId);
+                projectService.createProjectAndGenerateSpec(createProjectRequest, userId, false);
 
         // then
         assertThat(result.markdownContent()).isEqualTo("markdownSpec");
@@ -182,77 +241,123 @@ public class ProjectServiceTest {
 
         given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.EDITOR))
                 .willReturn(projectMember);
-        given(aiService.generateWbsFromMarkdown(markdownContent)).willReturn(wbsResponseDto);
+        given(aiService.generateWbsFromMarkdown(markdownContent, false)).willReturn(wbsResponseDto);
 
         // when
-        projectService.generateWbsAndSaveTasks(generateWbsRequestDto, userId);
+        projectService.generateWbsAndSaveTasks(generateWbsRequestDto, userId, false);
 
         // then
-        then(projectMemberValidator).should().validatePermission(userId, projectId, ProjectRole.EDITOR);
-        then(aiService).should().generateWbsFromMarkdown(markdownContent);
+        then(projectMemberValidator).should().checkPermission(userId, projectId, ProjectRole.EDITOR); // AI 호출 전
+        then(projectMemberValidator).should().validatePermission(userId, projectId, ProjectRole.EDITOR); // 저장 트랜잭션
+        then(aiService).should().generateWbsFromMarkdown(markdownContent, false);
         then(taskService).should().saveTasksFromAiResponse(project, wbsResponseDto);
     }
 
-    @DisplayName("유저가 참여 중인 모든 프로젝트를 조회한다.")
+    @DisplayName("느린 AI 호출 중에는 DB 커넥션을 점유하지 않고, 저장 트랜잭션에서만 커넥션을 사용한다.")
     @Test
-    void 유저가_참여_중인_모든_프로젝트_조회_테스트() {
+    void AI_호출_중_커넥션_미점유_테스트() {
         // given
         String userId = "testUserId";
+        Long projectId = 1L;
+        GenerateWbsRequestDto generateWbsRequestDto = new GenerateWbsRequestDto(projectId, "markdownContent");
 
         User user = User.builder()
                 .email("testUser")
                 .name("testUser")
                 .googleId("testUser")
                 .build();
-
-        Project project1 = Project.builder()
+        Project project = Project.builder()
                 .owner(user)
-                .projectName("project1")
-                .projectType("typeA")
-                .teamSize(3)
-                .expectedDurationMonths(1)
-                .startDate(LocalDate.parse("2025-01-01"))
-                .endDate(LocalDate.parse("2025-02-01"))
-                .budget(new BigDecimal("500000"))
-                .priority(ProjectPriority.MEDIUM)
-                .stakeholders("member1")
-                .deliverables("deliverableA")
-                .risks("riskA")
-                .detailedRequirements("reqA")
+                .projectName("projectName")
                 .build();
+        ProjectMember projectMember = ProjectMember.builder()
+                .user(user)
+                .project(project)
+                .role(ProjectRole.EDITOR)
+                .build();
+        AiWbsResponseDto wbsResponseDto = Mockito.mock(AiWbsResponseDto.class);
 
-        Project project2 = Project.builder()
-                .owner(user)
-                .projectName("project2")
-                .projectType("typeB")
-                .teamSize(5)
-                .expectedDurationMonths(2)
-                .startDate(LocalDate.parse("2025-03-01"))
-                .endDate(LocalDate.parse("2025-04-01"))
-                .budget(new BigDecimal("1000000"))
-                .priority(ProjectPriority.HIGH)
-                .stakeholders("member2")
-                .deliverables("deliverableB")
-                .risks("riskB")
-                .detailedRequirements("reqB")
+        AtomicInteger borrowedDuringAi = new AtomicInteger(-1);
+        AtomicInteger borrowedDuringSave = new AtomicInteger(-1);
+
+        given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.EDITOR))
+                .willReturn(projectMember);
+        given(aiService.generateWbsFromMarkdown("markdownContent", false)).willAnswer(invocation -> {
+            borrowedDuringAi.set(connectionPool.borrowed.get());
+            Thread.sleep(200); // 느린 LLM 응답 대역
+            return wbsResponseDto;
+        });
+        Mockito.doAnswer(invocation -> {
+            borrowedDuringSave.set(connectionPool.borrowed.get());
+            return null;
+        }).when(taskService).saveTasksFromAiResponse(project, wbsResponseDto);
+
+        // when
+        projectService.generateWbsAndSaveTasks(generateWbsRequestDto, userId, false);
+
+        // then
+        assertThat(borrowedDuringAi.get()).isEqualTo(0);
+        assertThat(borrowedDuringSave.get()).isEqualTo(1);
+        assertThat(connectionPool.borrowed.get()).isEqualTo(0);
+    }
+
+    @DisplayName("스펙 생성 AI 호출이 실패하면 먼저 저장한 프로젝트를 보상 트랜잭션으로 삭제한다.")
+    @Test
+    void 스펙_생성_AI_실패시_프로젝트_삭제_테스트() {
+        // given
+        String userId = "testUserId";
+        User owner = User.builder()
+                .email("testUser")
+                .name("testUser")
+                .googleId("testUser")
                 .build();
+        CreateProjectRequest createProjectRequest = new CreateProjectRequest(
+                "projectName", "projectType", 5, 90, "2025-09-01", "2025-12-01",
+                new BigDecimal("1000000"), "HIGH", List.of(), List.of(), List.of(), "요구사항");
+        Project savedProject = Project.builder()
+                .owner(owner)
+                .projectName("projectName")
+                .build();
+        ReflectionTestUtils.setField(savedProject, "id", 7L);
+        AiSpecRequestDto aiSpecRequestDto = Mockito.mock(AiSpecRequestDto.class);
+
+        AtomicInteger borrowedDuringAi = new AtomicInteger(-1);
 
-        ReflectionTestUtils.setField(project1, "updatedAt", LocalDateTime.of(2025, 1, 10, 0, 0));
-        ReflectionTestUtils.setField(project2, "updatedAt", LocalDateTime.of(2025, 2, 10, 0, 0));
+        given(userValidator.validateAndGetUser(userId)).willReturn(owner);
+        given(projectRepository.save(any(Project.class))).willReturn(savedProject);
+        given(aiDtoMapper.toSpecRequestDto(savedProject)).willReturn(aiSpecRequestDto);
+        given(aiService.generateMarkdownSpec(aiSpecRequestDto, false)).willAnswer(invocation -> {
+            borrowedDuringAi.set(connectionPool.borrowed.get());
+            throw new IllegalStateException("AI timeout");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> projectService.createProjectAndGenerateSpec(createProjectRequest, userId, false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(borrowedDuringAi.get()).isEqualTo(0);
+        then(projectRepository).should().deleteById(7L);
+        assertThat(connectionPool.borrowed.get()).isEqualTo(0);
+    }
 
-        ProjectMember membership1 = ProjectMember.builder().user(user).project(project1).build();
-        ProjectMember membership2 = ProjectMember.builder().user(user).project(project2).build();
+    @DisplayName("유저가 참여 중인 모든 프로젝트를 DB에서 정렬된 프로젝션 한 번으로 조회한다.")
+    @Test
+    void 유저가_참여_중인_모든_프로젝트_조회_테스트() {
+        // given
+        String userId = "testUserId";
+        ProjectListResponse recent = new ProjectListResponse(2L, "project2", "typeB",
+                LocalDate.parse("2025-03-01"), LocalDate.parse("2025-04-01"), 1, null, LocalDateTime.of(2025, 2, 10, 0, 0));
+        ProjectListResponse old = new ProjectListResponse(1L, "project1", "typeA",
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-02-01"), 1, null, LocalDateTime.of(2025, 1, 10, 0, 0));
 
-        given(userValidator.validateAndGetUser(userId)).willReturn(user);
-        given(projectMemberRepository.findAllByUser(user))
-                .willReturn(List.of(membership1, membership2));
+        given(projectMemberRepository.findProjectList(userId)).willReturn(List.of(recent, old));
 
         // when
         List<ProjectListResponse> result = projectService.findAllProjects(userId);
 
         // then
-        assertThat(result.size()).isEqualTo(2);
-        then(projectMemberRepository).should().findAllByUser(user);
+        assertThat(result).isEqualTo(List.of(recent, old));
+        then(projectMemberRepository).should(Mockito.never()).findAllByUser(any());
+        then(userValidator).shouldHaveNoInteractions();
     }
 
     @DisplayName("OWNER는 프로젝트를 삭제할 수 있다.")
@@ -302,4 +407,62 @@ public class ProjectServiceTest {
         then(projectMemberValidator).should().validatePermission(userId, projectId, ProjectRole.OWNER);
         then(projectRepository).should().delete(project);
     }
+
+    @DisplayName("프로젝트 목록 ETag는 버전 튜플만으로 계산하며, 버전이 바뀌면 달라진다.")
+    @Test
+    void 프로젝트_목록_ETag_계산() {
+        // given
+        String userId = "testUser";
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(projectMemberRepository.findProjectVersionsByGoogleId(userId))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 3L, updatedAt}))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 3L, updatedAt}))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 4L, updatedAt}));
+
+        // when
+        String first = projectService.getProjectListETag(userId);
+        String unchanged = projectService.getProjectListETag(userId);
+        String changed = projectService.getProjectListETag(userId);
+
+        // then
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+        then(projectMemberRepository).should(Mockito.never()).findAllByUser(any());
+    }
+
+    @DisplayName("프로젝트 목록을 키셋 페이지로 조회하고, 다음 커서로 이어서 조회한다.")
+    @Test
+    void 프로젝트_목록_키셋_페이지_테스트() {
+        // given
+        String userId = "testUserId";
+        LocalDateTime t = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123456000);
+        ProjectListResponse p3 = new ProjectListResponse(3L, "p3", "type", null, null, 2, null, t);
+        ProjectListResponse p2 = new ProjectListResponse(2L, "p2", "type", null, null, 1, null, t);
+        ProjectListResponse p1 = new ProjectListResponse(1L, "p1", "type", null, null, 1, null, t.minusDays(1));
+
+        given(projectMemberRepository.findProjectListFirstPage(userId, PageRequest.of(0, 3)))
+                .willReturn(List.of(p3, p2, p1));
+        given(projectMemberRepository.findProjectListAfter(userId, t, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(p1));
+
+        // when
+        ProjectSliceResponse first = projectService.findProjectSlice(userId, null, 2);
+        ProjectSliceResponse second = projectService.findProjectSlice(userId, first.nextCursor(), 2);
+
+        // then
+        assertThat(first.projects().stream().map(ProjectListResponse::id).toList()).isEqualTo(List.of(3L, 2L));
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.projects().stream().map(ProjectListResponse::id).toList()).isEqualTo(List.of(1L));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서로 조회하면 INVALID_INPUT_VALUE 예외가 발생한다.")
+    @Test
+    void 프로젝트_목록_잘못된_커서_테스트() {
+        assertThatThrownBy(() -> projectService.findProjectSlice("testUserId", "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
 }
@@ -4,17 +4,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.never;
 
 import com.hanmo.flowplan.global.error.exception.BusinessException;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
 import com.hanmo.flowplan.projectMember.application.ProjectMemberService;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
 import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
 import com.hanmo.flowplan.projectMember.presentation.dto.ProjectMemberResponse;
+import com.hanmo.flowplan.user.application.MembershipEpochService;
 import com.hanmo.flowplan.user.application.validator.UserValidator;
 import com.hanmo.flowplan.user.domain.User;
 import java.util.List;
@@ -41,6 +44,12 @@ class ProjectMemberServiceTest {
     @Mock
     ProjectMemberValidator projectMemberValidator;
 
+    @Mock
+    ProjectMembershipCache projectMembershipCache;
+
+    @Mock
+    MembershipEpochService membershipEpochService;
+
     @InjectMocks
     ProjectMemberService projectMemberService;
 
@@ -68,7 +77,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.VIEWER)
                 .build();
 
-        given(userValidator.validateAndGetUser(userId)).willReturn(user);
+        given(userValidator.getUserReference(userId)).willReturn(user);
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
         given(projectMemberRepository.findByUserAndProject(user, project))
                 .willReturn(Optional.of(member));
@@ -104,7 +113,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.EDITOR)
                 .build();
 
-        given(userValidator.validateAndGetUser(userId)).willReturn(user);
+        given(userValidator.getUserReference(userId)).willReturn(user);
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
         given(projectMemberRepository.findByUserAndProject(user, project))
                 .willReturn(Optional.of(member));
@@ -151,8 +160,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.PENDING)
                 .build();
 
-        given(projectMemberValidator.validatePermission(ownerId, projectId, ProjectRole.OWNER))
-                .willReturn(ownerMember);
+        willDoNothing().given(projectMemberValidator).checkPermission(ownerId, projectId, ProjectRole.OWNER);
         given(projectMemberRepository.findById(memberId))
                 .willReturn(Optional.of(pendingMember));
 
@@ -199,8 +207,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.EDITOR)
                 .build();
 
-        given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER))
-                .willReturn(viewerMember);
+        willDoNothing().given(projectMemberValidator).checkPermission(userId, projectId, ProjectRole.VIEWER);
         given(projectMemberRepository.findAllByProjectId(projectId))
                 .willReturn(List.of(viewerMember, editorMember));
 
@@ -248,8 +255,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.VIEWER)
                 .build();
 
-        given(projectMemberValidator.validatePermission(ownerGoogleId, projectId, ProjectRole.OWNER))
-                .willReturn(ownerMember);
+        willDoNothing().given(projectMemberValidator).checkPermission(ownerGoogleId, projectId, ProjectRole.OWNER);
         given(projectMemberRepository.findById(memberIdToKick))
                 .willReturn(Optional.of(targetMember));
 
@@ -258,6 +264,9 @@ class ProjectMemberServiceTest {
 
         // then
         then(projectMemberRepository).should().delete(targetMember);
+        then(projectRepository).should().adjustMemberCount(projectId, -1);
+        then(projectMembershipCache).should().evictAfterCommit("target-google-id", projectId);
+        then(membershipEpochService).should().increase("target-google-id");
     }
 
     @DisplayName("OWNER는 자기 자신을 추방할 수 없으며, 예외가 발생한다.")
@@ -285,8 +294,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.OWNER)
                 .build();
 
-        given(projectMemberValidator.validatePermission(ownerGoogleId, projectId, ProjectRole.OWNER))
-                .willReturn(ownerMember);
+        willDoNothing().given(projectMemberValidator).checkPermission(ownerGoogleId, projectId, ProjectRole.OWNER);
         given(projectMemberRepository.findById(memberIdToKick))
                 .willReturn(Optional.of(ownerMember));
 
@@ -327,7 +335,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.VIEWER)
                 .build();
 
-        given(userValidator.validateAndGetUser(userGoogleId)).willReturn(user);
+        given(userValidator.getUserReference(userGoogleId)).willReturn(user);
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
         given(projectMemberRepository.findByUserAndProject(user, project))
                 .willReturn(Optional.of(member));
@@ -363,7 +371,7 @@ class ProjectMemberServiceTest {
                 .role(ProjectRole.OWNER)
                 .build();
 
-        given(userValidator.validateAndGetUser(ownerGoogleId)).willReturn(owner);
+        given(userValidator.getUserReference(ownerGoogleId)).willReturn(owner);
         given(projectRepository.findById(projectId)).willReturn(Optional.of(project));
         given(projectMemberRepository.findByUserAndProject(owner, project))
                 .willReturn(Optional.of(ownerMember));
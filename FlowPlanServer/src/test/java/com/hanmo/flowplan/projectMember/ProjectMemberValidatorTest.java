@@ -0,0 +1,176 @@
+package com.hanmo.flowplan.projectMember;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails;
+import com.hanmo.flowplan.global.jwt.CustomUserDetails.ProjectClaim;
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.projectMember.application.ProjectMembershipCache;
+import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
+import com.hanmo.flowplan.projectMember.domain.ProjectMember;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
+import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.user.domain.User;
+import com.hanmo.flowplan.user.domain.UserRepository;
+import com.hanmo.flowplan.user.domain.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMemberValidatorTest {
+
+    private static final String GOOGLE_ID = "google-id";
+    private static final Long PROJECT_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ProjectRepository projectRepository;
+
+    @Mock
+    ProjectMemberRepository projectMemberRepository;
+
+    ProjectMembershipCache projectMembershipCache;
+    ProjectMemberValidator projectMemberValidator;
+
+    @BeforeEach
+    void setUp() {
+        projectMembershipCache = new ProjectMembershipCache(30, 100, new SimpleMeterRegistry());
+        projectMemberValidator = new ProjectMemberValidator(
+                userRepository, projectRepository, projectMemberRepository, projectMembershipCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private ProjectMember member(ProjectRole role) {
+        User user = User.builder().googleId(GOOGLE_ID).email("user@test.com").name("user").build();
+        Project project = Project.builder().owner(user).projectName("proj").build();
+        ProjectMember member = ProjectMember.builder().user(user).project(project).role(role).build();
+        ReflectionTestUtils.setField(member, "id", MEMBER_ID);
+        return member;
+    }
+
+    @DisplayName("첫 권한 검사는 조인 쿼리 1회, 이후 검사는 캐시 hit 으로 DB를 조회하지 않는다. (지연 로딩 참조도 만들지 않음)")
+    @Test
+    void 권한_검사_캐시_hit() {
+        // given
+        ProjectMember member = member(ProjectRole.EDITOR);
+        given(projectMemberRepository.findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID))
+                .willReturn(Optional.of(member));
+
+        // when
+        projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR);
+        for (int i = 0; i < 3; i++) {
+            projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.VIEWER);
+        }
+
+        // then
+        then(projectMemberRepository).should(times(1)).findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID);
+        then(projectMemberRepository).should(never()).getReferenceById(MEMBER_ID);
+        then(userRepository).shouldHaveNoInteractions();
+        then(projectRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("멤버/프로젝트가 필요한 검사는 캐시가 있어도 조인 쿼리 1회로 프로젝트까지 함께 로딩한다.")
+    @Test
+    void 엔티티가_필요한_권한_검사는_조인_1회() {
+        // given: 캐시 hit 상태
+        ProjectMember member = member(ProjectRole.EDITOR);
+        given(projectMemberRepository.findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID))
+                .willReturn(Optional.of(member));
+        projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR);
+
+        // when
+        ProjectMember result = projectMemberValidator.validatePermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR);
+
+        // then
+        assertThat(result).isSameAs(member);
+        assertThat(result.getProject()).isSameAs(member.getProject());
+        then(projectMemberRepository).should(times(2)).findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID);
+        then(projectMemberRepository).should(never()).getReferenceById(MEMBER_ID);
+    }
+
+    @DisplayName("캐시 hit 이어도 권한이 부족하면 ACCESS_DENIED, 무효화 후에는 다시 조회한다.")
+    @Test
+    void 캐시_hit_권한부족_및_무효화() {
+        // given
+        ProjectMember viewer = member(ProjectRole.VIEWER);
+        given(projectMemberRepository.findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID))
+                .willReturn(Optional.of(viewer));
+        projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.VIEWER);
+
+        // when & then
+        assertThatThrownBy(() -> projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+
+        // 역할 변경 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+        projectMembershipCache.evictAfterCommit(GOOGLE_ID, PROJECT_ID);
+        viewer.updateRole(ProjectRole.EDITOR);
+        projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR);
+
+        then(projectMemberRepository).should(times(2)).findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID);
+    }
+
+    @DisplayName("멤버가 아니면 원인에 맞는 에러 코드를 던진다.")
+    @Test
+    void 멤버가_아니면_에러코드_구분() {
+        // given
+        User user = User.builder().googleId(GOOGLE_ID).email("user@test.com").name("user").build();
+        given(projectMemberRepository.findWithProjectByGoogleIdAndProjectId(GOOGLE_ID, PROJECT_ID))
+                .willReturn(Optional.empty());
+        given(projectRepository.existsById(PROJECT_ID)).willReturn(true);
+        given(userRepository.findByGoogleId(GOOGLE_ID)).willReturn(Optional.of(user));
+
+        // when & then
+        assertThatThrownBy(() -> projectMemberValidator.validatePermission(GOOGLE_ID, PROJECT_ID, ProjectRole.VIEWER))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_PROJECT_MEMBER);
+    }
+
+    @DisplayName("토큰에 프로젝트 권한 클레임이 있으면 캐시/DB 없이 권한을 확인한다.")
+    @Test
+    void 토큰_클레임으로_권한_확인() {
+        // given
+        CustomUserDetails principal = new CustomUserDetails(7L, GOOGLE_ID, "user@test.com", UserRole.USER,
+                Map.of(PROJECT_ID, new ProjectClaim(MEMBER_ID, ProjectRole.EDITOR)), 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // when
+        projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.EDITOR);
+
+        // then
+        then(projectMemberRepository).shouldHaveNoInteractions();
+        assertThatThrownBy(() -> projectMemberValidator.checkPermission(GOOGLE_ID, PROJECT_ID, ProjectRole.OWNER))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+    }
+}
@@ -0,0 +1,64 @@
+package com.hanmo.flowplan.support;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 테스트용 DataSource 를 감싸서 실제로 JDBC 드라이버에 전달된 SQL 문을 기록합니다.
+ * (Hibernate, JdbcTemplate 모두 포함 - 배치는 executeBatch 1회를 1건으로, 묶인 행 수는 batchSize 로 기록)
+ *
+ * 사용: @DataJpaTest + @Import(SqlStatementCounter.class)
+ */
+public class SqlStatementCounter implements BeanPostProcessor, QueryExecutionListener {
+
+    public record Statement(String sql, boolean batch, int batchSize) {
+
+        public boolean startsWith(String keyword) {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(keyword.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final List<Statement> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(this).build();
+        }
+        return bean;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            statements.add(new Statement(queryInfo.getQuery(), execInfo.isBatch(), execInfo.getBatchSize()));
+        }
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public List<Statement> statements() {
+        return List.copyOf(statements);
+    }
+
+    // keyword(SELECT/INSERT/UPDATE/DELETE) 로 시작하고 sqlFragment 를 포함하는 문장 (테이블 이름 등으로 거름)
+    public List<Statement> statements(String keyword, String sqlFragment) {
+        return statements.stream()
+                .filter(statement -> statement.startsWith(keyword))
+                .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).contains(sqlFragment.toLowerCase(Locale.ROOT)))
+                .toList();
+    }
+}
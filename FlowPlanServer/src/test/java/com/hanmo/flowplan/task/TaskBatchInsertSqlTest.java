@@ -0,0 +1,145 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.config.JpaConfig;
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
+import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
+import com.hanmo.flowplan.support.SqlStatementCounter;
+import com.hanmo.flowplan.task.application.TaskProgressRollup;
+import com.hanmo.flowplan.task.application.TaskService;
+import com.hanmo.flowplan.task.application.TaskTreeCache;
+import com.hanmo.flowplan.task.application.validator.TaskValidator;
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import com.hanmo.flowplan.user.domain.User;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * AI WBS 대량 저장 시 Hibernate 가 실제로 보내는 JDBC 문 수 검증
+ * (테이블 id 블록 할당 + hibernate.jdbc.batch_size 배치 INSERT - 인메모리 DB, 실제 Hibernate)
+ */
+@DataJpaTest
+@Import({SqlStatementCounter.class, JpaConfig.class, TaskService.class})
+class TaskBatchInsertSqlTest {
+
+    // JpaConfig 기본 배치 크기 (jpa.jdbc-batch-size), Task.ID_ALLOCATION_SIZE 와 같음
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    // 프로젝트 터치/카운터 갱신은 이 테스트의 관심사가 아님 (작업 INSERT 만 집계)
+    @MockitoBean
+    ProjectRepository projectRepository;
+
+    @MockitoBean
+    ProjectMemberValidator projectMemberValidator;
+
+    @MockitoBean
+    TaskValidator taskValidator;
+
+    @MockitoBean
+    TaskProgressRollup taskProgressRollup;
+
+    @MockitoBean
+    TaskTreeCache taskTreeCache;
+
+    @MockitoBean
+    TaskJdbcRepository taskJdbcRepository;
+
+    @MockitoBean
+    ObjectMapper objectMapper;
+
+    @DisplayName("대량 AI WBS 는 작업 행마다 INSERT 를 보내지 않고 배치 크기 단위 JDBC 배치로 저장하며, 경로 UPDATE 가 없다.")
+    @ParameterizedTest(name = "{0}개 작업")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    void AI_WBS_대량_저장_JDBC_문_수(int taskCount) {
+        // given: 5개 자식을 가지는 트리를 자식 -> 부모 역순으로 전달
+        Project project = persistProject();
+        given(projectRepository.findChangeVersionById(anyLong())).willReturn(1L);
+        AiWbsResponseDto wbs = wbsOf(taskCount);
+        sqlStatementCounter.reset();
+
+        // when
+        taskService.saveTasksFromAiResponse(project, wbs);
+
+        // then: 작업 INSERT 는 전부 배치, 배치 수 = ceil(n / 배치 크기), 묶인 행 수 합 = n
+        List<SqlStatementCounter.Statement> inserts = sqlStatementCounter.statements("insert", "tasks");
+        int expectedBatches = (taskCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertThat(inserts).hasSize(expectedBatches).allMatch(SqlStatementCounter.Statement::batch);
+        assertThat(inserts.stream().mapToInt(SqlStatementCounter.Statement::batchSize).sum()).isEqualTo(taskCount);
+
+        // 부모 id 가 INSERT 전에 정해지므로 자식 경로를 나중에 고치는 UPDATE 없음
+        assertThat(sqlStatementCounter.statements("update", "tasks ")).isEmpty();
+
+        // id 는 블록(allocationSize) 단위로 받음 - 블록당 조회 + 갱신 (작업 수만큼 왕복하지 않음)
+        int idBlocks = taskCount / BATCH_SIZE + 1;
+        assertThat(sqlStatementCounter.statements("select", "id_sequences")).hasSizeLessThanOrEqualTo(idBlocks);
+        assertThat(sqlStatementCounter.statements("update", "id_sequences")).hasSizeLessThanOrEqualTo(idBlocks);
+
+        Long saved = entityManager.createQuery("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId", Long.class)
+                .setParameter("projectId", project.getId())
+                .getSingleResult();
+        assertThat(saved).isEqualTo(taskCount);
+    }
+
+    @DisplayName("MySQL 커넥션 풀에만 rewriteBatchedStatements 를 켜서 배치를 multi-row INSERT 로 보낸다.")
+    @Test
+    void MySQL_배치_재작성_설정() {
+        // given
+        HikariDataSource mysql = new HikariDataSource();
+        mysql.setJdbcUrl("jdbc:mysql://localhost:3306/flowplan");
+        HikariDataSource other = new HikariDataSource();
+        other.setJdbcUrl("jdbc:h2:mem:other");
+
+        // when
+        JpaConfig.mysqlBatchRewritePostProcessor().postProcessAfterInitialization(mysql, "mysql");
+        JpaConfig.mysqlBatchRewritePostProcessor().postProcessAfterInitialization(other, "other");
+
+        // then
+        assertThat(mysql.getDataSourceProperties()).containsEntry("rewriteBatchedStatements", "true");
+        assertThat(other.getDataSourceProperties()).doesNotContainKey("rewriteBatchedStatements");
+    }
+
+    private Project persistProject() {
+        User owner = User.builder().email("owner@test.com").name("owner").googleId("google-owner").build();
+        entityManager.persist(owner);
+        Project project = Project.builder().owner(owner).projectName("wbs").build();
+        entityManager.persist(project);
+        entityManager.flush();
+        return project;
+    }
+
+    private static AiWbsResponseDto wbsOf(int taskCount) {
+        List<AiWbsResponseDto.TaskDto> dtos = new ArrayList<>();
+        for (int i = taskCount; i >= 1; i--) {
+            String parentId = (i == 1) ? null : String.valueOf(i / 5);
+            dtos.add(new AiWbsResponseDto.TaskDto(String.valueOf(i), parentId, "task-" + i, "Backend",
+                    "2025-01-01", "2025-01-10", 10, 0, "TODO"));
+        }
+        return new AiWbsResponseDto("wbs", taskCount, dtos);
+    }
+}
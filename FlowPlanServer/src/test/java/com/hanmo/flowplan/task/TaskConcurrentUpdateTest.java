@@ -0,0 +1,206 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hanmo.flowplan.global.error.ErrorCode;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
+import com.hanmo.flowplan.global.retry.OptimisticLockRetryExecutor;
+import com.hanmo.flowplan.task.application.TaskProgressRollup;
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * 동시 수정 시 재시도(OptimisticLockRetryExecutor) + 롤업 재계산 로직 검증
+ *
+ * 스트레스 테스트는 DB 없이 메모리 대역(InMemoryTaskTable)과 ReentrantLock(프로젝트 행 잠금 대역)으로 실행하므로
+ * "버전 충돌이 나면 재시도되고, 재시도 후 최종 리프/부모 진행률이 일관된다"는 애플리케이션 로직만 보장합니다.
+ * 실제 SQL 의 행 수 처리(UPDATE ... WHERE version = ?)와 Hibernate @Version 은 TaskJdbcRepositoryTest / TaskOptimisticLockSqlTest 에서,
+ * MySQL 행 잠금 순서/교착 상태는 이 테스트에서 검증하지 않습니다.
+ */
+public class TaskConcurrentUpdateTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final long ROOT_ID = 1L;
+    private static final long MID_ID = 2L;
+    private static final long FIRST_LEAF_ID = 100L;
+    private static final int LEAF_COUNT = 5;
+
+    /**
+     * tasks 테이블 대역 - (id -> parent, progress, version)
+     * 리프 저장은 @Version 을, 롤업 배치 UPDATE 는 "WHERE id = ? AND version = ?" 를 흉내내서 버전이 맞을 때만 반영
+     * (실제 JDBC/Hibernate 동작이 아니라 같은 규칙을 따르는 대역)
+     */
+    static class InMemoryTaskTable extends TaskJdbcRepository {
+
+        private final Map<Long, long[]> rows = new TreeMap<>(); // id -> {parentId, progress, version}
+
+        InMemoryTaskTable() {
+            super(null);
+        }
+
+        synchronized void put(long id, long parentId) {
+            rows.put(id, new long[]{parentId, 0, 0});
+        }
+
+        synchronized long versionOf(long id) {
+            return rows.get(id)[2];
+        }
+
+        synchronized int progressOf(long id) {
+            return (int) rows.get(id)[1];
+        }
+
+        synchronized void saveLeaf(long id, int progress, long expectedVersion) {
+            long[] row = rows.get(id);
+            if (row[2] != expectedVersion) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, id);
+            }
+            row[1] = progress;
+            row[2]++;
+        }
+
+        synchronized List<Object[]> snapshot() {
+            List<Object[]> tuples = new ArrayList<>();
+            rows.forEach((id, row) -> tuples.add(new Object[]{id, row[0] < 0 ? null : row[0], (int) row[1], row[2],
+                    TaskStatus.fromProgress((int) row[1])}));
+            return tuples;
+        }
+
+        @Override
+        public synchronized void batchUpdateProgress(List<TaskProgressUpdate> updates, long changeVersion) {
+            for (TaskProgressUpdate update : updates) {
+                if (rows.get(update.taskId())[2] != update.version()) {
+                    throw new ObjectOptimisticLockingFailureException(Task.class, update.taskId());
+                }
+            }
+            for (TaskProgressUpdate update : updates) {
+                long[] row = rows.get(update.taskId());
+                row[1] = update.progress();
+                row[2]++;
+            }
+        }
+    }
+
+    @DisplayName("[메모리 대역] 여러 스레드가 같은 하위 트리를 동시에 수정해도, 버전 충돌은 재시도되고 수정/부모 진행률이 유실되지 않는다.")
+    @Test
+    void 같은_하위트리_동시_수정_스트레스() throws Exception {
+        // given: root(1) -> mid(2) -> leaf 100 ~ 104 (리프 수를 적게 해서 같은 작업 동시 수정을 유도)
+        InMemoryTaskTable table = new InMemoryTaskTable();
+        table.put(ROOT_ID, -1);
+        table.put(MID_ID, ROOT_ID);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            table.put(FIRST_LEAF_ID + i, MID_ID);
+        }
+
+        TaskRepository taskRepository = Mockito.mock(TaskRepository.class);
+        Mockito.when(taskRepository.findProgressTuplesByProjectId(PROJECT_ID))
+                .thenAnswer(invocation -> table.snapshot());
+
+        TaskProgressRollup rollup = new TaskProgressRollup(taskRepository, table);
+        OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(100, 1, 5);
+        ReentrantLock projectRowLock = new ReentrantLock(); // touchProject 의 프로젝트 행 잠금
+
+        int threads = 16;
+        int editsPerThread = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: updateTask 와 같은 순서 - 작업 조회(잠금 전) -> 프로젝트 잠금 -> 저장(@Version) -> 롤업 -> 커밋
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < editsPerThread; i++) {
+                    long leafId = FIRST_LEAF_ID + ThreadLocalRandom.current().nextInt(LEAF_COUNT);
+                    int progress = ThreadLocalRandom.current().nextInt(101);
+
+                    retryExecutor.execute(() -> {
+                        long seenVersion = table.versionOf(leafId);
+                        Thread.yield();
+                        projectRowLock.lock();
+                        try {
+                            table.saveLeaf(leafId, progress, seenVersion);
+                            rollup.rollUpFrom(PROJECT_ID, MID_ID, 1L);
+                        } finally {
+                            projectRowLock.unlock();
+                        }
+                    });
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // then 1: 모든 리프 수정이 (재시도 후) 정확히 한 번씩 반영됨 - 조용히 덮어쓴 수정 없음
+        long appliedEdits = 0;
+        long sum = 0;
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            appliedEdits += table.versionOf(FIRST_LEAF_ID + i);
+            sum += table.progressOf(FIRST_LEAF_ID + i);
+        }
+        assertThat(appliedEdits).isEqualTo((long) threads * editsPerThread);
+
+        // then 2: 부모/루트 진행률이 최종 리프 상태와 일치
+        int expectedMid = (int) Math.round((double) sum / LEAF_COUNT);
+        assertThat(table.progressOf(MID_ID)).isEqualTo(expectedMid);
+        assertThat(table.progressOf(ROOT_ID)).isEqualTo(expectedMid);
+        assertThat(rollup.rollUpFrom(PROJECT_ID, MID_ID, 1L)).isEmpty();
+    }
+
+    @DisplayName("재시도 횟수를 넘기면 409 CONCURRENT_UPDATE 예외를 던진다.")
+    @Test
+    void 재시도_초과시_충돌_예외() {
+        // given
+        OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(3, 1, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Task.class, 1L);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CONCURRENT_UPDATE);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다.")
+    @Test
+    void 일반_예외는_재시도_안함() {
+        // given
+        OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(3, 1, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
+        })).isInstanceOf(BusinessException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import java.sql.PreparedStatement;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class TaskJdbcRepositoryTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    TaskJdbcRepository taskJdbcRepository;
+
+    private final List<TaskProgressUpdate> updates = List.of(
+            new TaskProgressUpdate(1L, 50, TaskStatus.IN_PROGRESS, 3L, TaskStatus.TODO),
+            new TaskProgressUpdate(2L, 100, TaskStatus.DONE, 0L, TaskStatus.IN_PROGRESS),
+            new TaskProgressUpdate(5L, 0, TaskStatus.TODO, 7L, TaskStatus.IN_PROGRESS)
+    );
+
+    @DisplayName("배치 UPDATE 중 한 행이라도 0건이면(version 불일치) 그 작업 id 로 낙관적 락 예외를 던진다.")
+    @Test
+    void 버전_불일치_행이_있으면_낙관적_락_예외() {
+        // given: 두 번째 행(id 2)만 version 이 맞지 않아 0건
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .willReturn(new int[][]{{1, 0, 1}});
+
+        // when & then
+        assertThatThrownBy(() -> taskJdbcRepository.batchUpdateProgress(updates, 9L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .extracting(e -> ((ObjectOptimisticLockingFailureException) e).getIdentifier())
+                .isEqualTo(2L);
+    }
+
+    @DisplayName("드라이버가 배치를 여러 묶음으로 나눠 돌려줘도 0건인 행의 작업 id 를 정확히 찾는다.")
+    @Test
+    void 여러_묶음_결과에서_충돌_행_찾기() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .willReturn(new int[][]{{1, 1}, {0}});
+
+        // when & then
+        assertThatThrownBy(() -> taskJdbcRepository.batchUpdateProgress(updates, 9L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .extracting(e -> ((ObjectOptimisticLockingFailureException) e).getIdentifier())
+                .isEqualTo(5L);
+    }
+
+    @DisplayName("모든 행이 갱신되면 예외 없이 끝나고, 진행률/상태/변경 버전/id/읽은 version 순서로 바인딩한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void 모든_행_갱신_성공() throws Exception {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .willReturn(new int[][]{{1, 1, 1}});
+
+        // when & then
+        assertThatCode(() -> taskJdbcRepository.batchUpdateProgress(updates, 9L)).doesNotThrowAnyException();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<TaskProgressUpdate>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        then(jdbcTemplate).should().batchUpdate(sql.capture(), eq(updates), eq(3), setter.capture());
+        assertThat(sql.getValue()).contains("WHERE id = ? AND version = ?");
+
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, updates.get(0));
+        then(ps).should().setInt(1, 50);
+        then(ps).should().setString(2, "IN_PROGRESS");
+        then(ps).should().setLong(3, 9L);
+        then(ps).should().setLong(4, 1L);
+        then(ps).should().setLong(5, 3L);
+    }
+
+    @DisplayName("갱신할 부모가 없으면 DB 를 호출하지 않는다.")
+    @Test
+    void 빈_목록은_호출_안함() {
+        // when
+        taskJdbcRepository.batchUpdateProgress(List.of(), 9L);
+
+        // then
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+}
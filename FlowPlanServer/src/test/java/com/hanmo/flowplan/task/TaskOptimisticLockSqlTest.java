@@ -0,0 +1,115 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import com.hanmo.flowplan.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * 낙관적 락이 실제 SQL 에서 동작하는지 검증 (인메모리 DB, 실제 Hibernate/JdbcTemplate)
+ * - 롤업 배치 UPDATE ... WHERE version = ? 의 행 수 0 처리
+ * - Task @Version
+ */
+@DataJpaTest
+@Import(TaskJdbcRepository.class)
+class TaskOptimisticLockSqlTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TaskJdbcRepository taskJdbcRepository;
+
+    @DisplayName("읽은 뒤 다른 트랜잭션이 version 을 올린 부모가 있으면 배치 UPDATE 가 0건이 되어 낙관적 락 예외를 던진다.")
+    @Test
+    void 롤업_배치_UPDATE_버전_불일치() {
+        // given
+        Task parent = persistTask("parent");
+        Task other = persistTask("other");
+        bumpVersion(other.getId());
+
+        List<TaskProgressUpdate> updates = List.of(
+                new TaskProgressUpdate(parent.getId(), 50, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO),
+                new TaskProgressUpdate(other.getId(), 50, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO));
+
+        // when & then
+        assertThatThrownBy(() -> taskJdbcRepository.batchUpdateProgress(updates, 3L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .extracting(e -> ((ObjectOptimisticLockingFailureException) e).getIdentifier())
+                .isEqualTo(other.getId());
+        assertThat(progressOf(other.getId())).isZero();
+    }
+
+    @DisplayName("version 이 맞으면 배치 UPDATE 가 진행률/상태/변경 버전을 반영하고 version 을 올린다.")
+    @Test
+    void 롤업_배치_UPDATE_성공() {
+        // given
+        Task parent = persistTask("parent");
+
+        // when
+        taskJdbcRepository.batchUpdateProgress(
+                List.of(new TaskProgressUpdate(parent.getId(), 100, TaskStatus.DONE, 0L, TaskStatus.TODO)), 3L);
+
+        // then
+        assertThat(progressOf(parent.getId())).isEqualTo(100);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, parent.getId()))
+                .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT change_version FROM tasks WHERE id = ?", Long.class, parent.getId()))
+                .isEqualTo(3L);
+    }
+
+    @DisplayName("엔티티를 읽은 뒤 다른 쓰기가 version 을 올렸으면, 엔티티 저장(@Version)은 덮어쓰지 않고 낙관적 락 예외로 실패한다.")
+    @Test
+    void 엔티티_저장_버전_충돌() {
+        // given
+        Task task = persistTask("leaf");
+        bumpVersion(task.getId());
+
+        // when & then
+        task.setName("stale edit");
+        assertThatThrownBy(() -> taskRepository.saveAndFlush(task))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    private Task persistTask(String name) {
+        User owner = User.builder().email(name + "@test.com").name(name).googleId("google-" + name).build();
+        entityManager.persist(owner);
+        Project project = Project.builder().owner(owner).projectName(name).build();
+        entityManager.persist(project);
+        Task task = Task.builder().project(project).name(name).progress(0).status(TaskStatus.TODO).build();
+        task.assignPath();
+        entityManager.persist(task);
+        entityManager.flush();
+        return task;
+    }
+
+    // 다른 트랜잭션의 커밋된 수정 대역
+    private void bumpVersion(Long taskId) {
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", taskId);
+    }
+
+    private int progressOf(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT progress FROM tasks WHERE id = ?", Integer.class, taskId);
+    }
+}
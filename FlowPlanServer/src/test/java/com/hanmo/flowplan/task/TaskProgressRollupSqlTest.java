@@ -0,0 +1,88 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.support.SqlStatementCounter;
+import com.hanmo.flowplan.task.application.TaskProgressRollup;
+import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import com.hanmo.flowplan.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 진행률 롤업이 실제로 DB 에 보내는 SQL 문 수 검증 (인메모리 DB, 실제 Hibernate/JdbcTemplate)
+ */
+@DataJpaTest
+@Import({SqlStatementCounter.class, TaskProgressRollup.class, TaskJdbcRepository.class})
+class TaskProgressRollupSqlTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TaskProgressRollup taskProgressRollup;
+
+    @Autowired
+    SqlStatementCounter sqlStatementCounter;
+
+    @DisplayName("6단계 트리에서 리프 변경 시, 실제 실행되는 SQL 은 SELECT 1개 + 조상 5개를 묶은 배치 UPDATE 1개다.")
+    @Test
+    void 여섯단계_트리_롤업_SQL_문_수() {
+        // given: 1 -> 2 -> 3 -> 4 -> 5 -> 6 (리프 6만 100), 각 레벨에 형제 작업 존재
+        Project project = persistProject();
+        List<Task> chain = new ArrayList<>();
+        Task parent = null;
+        for (int level = 1; level <= 6; level++) {
+            Task task = persistTask(project, parent, "level-" + level, (level == 6) ? 100 : 0);
+            persistTask(project, parent, "sibling-" + level, 0);
+            chain.add(task);
+            parent = task;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        sqlStatementCounter.reset();
+
+        // when
+        taskProgressRollup.rollUpFrom(project.getId(), chain.get(4).getId(), 1L);
+
+        // then
+        assertThat(sqlStatementCounter.statements()).hasSize(2);
+        assertThat(sqlStatementCounter.statements("select", "tasks")).hasSize(1);
+
+        List<SqlStatementCounter.Statement> updates = sqlStatementCounter.statements("update", "tasks");
+        assertThat(updates).singleElement()
+                .satisfies(update -> {
+                    assertThat(update.batch()).isTrue();
+                    assertThat(update.batchSize()).isEqualTo(5);
+                });
+
+        entityManager.clear();
+        assertThat(entityManager.find(Task.class, chain.get(4).getId()).getProgress()).isEqualTo(50);
+        assertThat(entityManager.find(Task.class, chain.get(0).getId()).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    private Project persistProject() {
+        User owner = User.builder().email("owner@test.com").name("owner").googleId("google-owner").build();
+        entityManager.persist(owner);
+        Project project = Project.builder().owner(owner).projectName("rollup").build();
+        entityManager.persist(project);
+        return project;
+    }
+
+    private Task persistTask(Project project, Task parent, String name, int progress) {
+        Task task = Task.builder().project(project).parent(parent).name(name)
+                .progress(progress).status(TaskStatus.fromProgress(progress)).build();
+        task.assignPath();
+        entityManager.persist(task);
+        return task;
+    }
+}
@@ -0,0 +1,119 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hanmo.flowplan.task.application.TaskProgressRollup;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
+import com.hanmo.flowplan.task.domain.TaskRepository;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskProgressRollupTest {
+
+    @Mock
+    TaskRepository taskRepository;
+
+    @Mock
+    TaskJdbcRepository taskJdbcRepository;
+
+    @InjectMocks
+    TaskProgressRollup taskProgressRollup;
+
+    private static final Long PROJECT_ID = 10L;
+
+    // 실제로 실행되는 SQL 문 수는 TaskProgressRollupSqlTest 에서 검증
+    @DisplayName("6단계 트리에서 리프 변경 시, 튜플 조회 1회 + 배치 UPDATE 1회 호출로 조상 5개를 갱신한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void 여섯단계_트리_롤업_호출() {
+        // given: 1 -> 2 -> 3 -> 4 -> 5 -> 6 (리프 6이 100으로 변경됨), 각 레벨에 형제 작업 존재
+        given(taskRepository.findProgressTuplesByProjectId(PROJECT_ID)).willReturn(List.of(
+                tuple(1L, null, 0),
+                tuple(2L, 1L, 0),
+                tuple(3L, 2L, 0),
+                tuple(4L, 3L, 0, 4L),
+                tuple(5L, 4L, 0),
+                tuple(6L, 5L, 100),
+                tuple(10L, 5L, 0),
+                tuple(11L, 3L, 100),
+                tuple(12L, 1L, 0)
+        ));
+
+        ArgumentCaptor<List<TaskProgressUpdate>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        taskProgressRollup.rollUpFrom(PROJECT_ID, 5L, 7L);
+
+        // then: SELECT 1회, 배치 UPDATE 1회, 부모별 개별 조회 없음 (id 오름차순, 읽은 시점의 version 포함)
+        then(taskRepository).should(times(1)).findProgressTuplesByProjectId(PROJECT_ID);
+        then(taskRepository).should(never()).findAllByParentId(anyLong());
+        then(taskJdbcRepository).should(times(1)).batchUpdateProgress(captor.capture(), eq(7L));
+
+        assertThat(captor.getValue()).containsExactly(
+                new TaskProgressUpdate(1L, 38, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO),
+                new TaskProgressUpdate(2L, 75, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO),
+                new TaskProgressUpdate(3L, 75, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO),
+                new TaskProgressUpdate(4L, 50, TaskStatus.IN_PROGRESS, 4L, TaskStatus.TODO),
+                new TaskProgressUpdate(5L, 50, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO)
+        );
+    }
+
+    @DisplayName("부모 진행률이 변하지 않으면 그 위 조상은 갱신하지 않는다.")
+    @Test
+    void 변경없는_조상에서_롤업_중단() {
+        // given: 3의 자식 평균은 그대로 50
+        given(taskRepository.findProgressTuplesByProjectId(PROJECT_ID)).willReturn(List.of(
+                tuple(1L, null, 50),
+                tuple(2L, 1L, 50),
+                tuple(3L, 2L, 50),
+                tuple(4L, 3L, 100),
+                tuple(5L, 3L, 0)
+        ));
+
+        // when
+        List<TaskProgressUpdate> updates = taskProgressRollup.rollUpFrom(PROJECT_ID, 3L, 7L);
+
+        // then
+        assertThat(updates).isEmpty();
+    }
+
+    @DisplayName("모든 자식이 완료되면 부모 상태도 DONE이 되고, 결과에 기존 상태를 함께 담는다.")
+    @Test
+    void 자식_모두_완료시_부모_DONE() {
+        // given
+        given(taskRepository.findProgressTuplesByProjectId(PROJECT_ID)).willReturn(List.of(
+                tuple(1L, null, 50),
+                tuple(2L, 1L, 100),
+                tuple(3L, 1L, 100)
+        ));
+
+        // when
+        List<TaskProgressUpdate> updates = taskProgressRollup.rollUpFrom(PROJECT_ID, 1L, 7L);
+
+        // then
+        assertThat(updates).containsExactly(new TaskProgressUpdate(1L, 100, TaskStatus.DONE, 0L, TaskStatus.IN_PROGRESS));
+    }
+
+    private static Object[] tuple(Long id, Long parentId, int progress) {
+        return tuple(id, parentId, progress, 0L);
+    }
+
+    private static Object[] tuple(Long id, Long parentId, int progress, long version) {
+        return new Object[]{id, parentId, progress, version, TaskStatus.fromProgress(progress)};
+    }
+}
@@ -1,43 +1,67 @@
 package com.hanmo.flowplan.task;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanmo.flowplan.ai.infrastructure.dto.AiWbsResponseDto;
+import com.hanmo.flowplan.global.error.exception.BusinessException;
 import com.hanmo.flowplan.project.domain.Project;
 import com.hanmo.flowplan.project.domain.ProjectPriority;
 import com.hanmo.flowplan.project.domain.repository.ProjectRepository;
 import com.hanmo.flowplan.projectMember.application.validator.ProjectMemberValidator;
 import com.hanmo.flowplan.projectMember.domain.ProjectMember;
+import com.hanmo.flowplan.projectMember.domain.ProjectMemberRepository;
 import com.hanmo.flowplan.projectMember.domain.ProjectRole;
+import com.hanmo.flowplan.task.application.TaskProgressRollup;
 import com.hanmo.flowplan.task.application.TaskService;
+import com.hanmo.flowplan.task.application.TaskTreeCache;
 import com.hanmo.flowplan.task.application.validator.TaskValidator;
 import com.hanmo.flowplan.task.domain.Task;
+import com.hanmo.flowplan.task.domain.TaskProgressUpdate;
 import com.hanmo.flowplan.task.domain.TaskRepository;
 import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.domain.TaskTombstoneRepository;
+import com.hanmo.flowplan.task.infrastructure.TaskJdbcRepository;
 import com.hanmo.flowplan.task.presentation.dto.CreateTaskRequestDto;
 import com.hanmo.flowplan.task.presentation.dto.ProjectWithTasksResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskDeltaResponseDto;
 import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatRow;
 import com.hanmo.flowplan.task.presentation.dto.UpdateTaskRequestDto;
 import com.hanmo.flowplan.user.domain.User;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
@@ -48,18 +72,35 @@ public class TaskServiceTest {
     @Mock
     TaskRepository taskRepository;
 
+    @Mock
+    TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    ProjectMemberRepository projectMemberRepository;
+
     @Mock
     ProjectMemberValidator projectMemberValidator;
 
     @Mock
     TaskValidator taskValidator;
 
+    @Mock
+    TaskProgressRollup taskProgressRollup;
+
+    @Mock
+    TaskTreeCache taskTreeCache;
+
+    @Mock
+    TaskJdbcRepository taskJdbcRepository;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     TaskService taskService;
 
     @DisplayName("AI WBS 응답으로 작업을 생성하고, 부모-자식 관계를 설정한다.")
     @Test
-    @SuppressWarnings("unchecked")
     void AI_WBS_작업_생성_및_부모자식_연결() {
         // given
         User user = User.builder()
@@ -104,24 +145,78 @@ public class TaskServiceTest {
         given(childDto.assignee()).willReturn("Frontend");
 
         AiWbsResponseDto wbs = Mockito.mock(AiWbsResponseDto.class);
-        given(wbs.tasks()).willReturn(List.of(parentDto, childDto));
+        // 자식이 먼저 와도 부모부터 저장되어야 한다
+        given(wbs.tasks()).willReturn(List.of(childDto, parentDto));
 
-        ArgumentCaptor<List<Task>> saveCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Task> saveCaptor = ArgumentCaptor.forClass(Task.class);
+        given(taskRepository.save(any(Task.class))).willAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            ReflectionTestUtils.setField(task, "id", task.getParent() == null ? 1L : 2L);
+            return task;
+        });
 
         // when
         taskService.saveTasksFromAiResponse(project, wbs);
 
         // then
-        then(taskRepository).should().saveAll(saveCaptor.capture());
+        then(taskRepository).should(Mockito.times(2)).save(saveCaptor.capture());
+        then(taskRepository).should().flush();
         then(projectRepository).should().updateLastModifiedDate(project.getId());
+        then(projectRepository).should().adjustTaskCounts(project.getId(), 2, 2, 0, 0);
 
-        List<Task> saved = saveCaptor.getValue();
+        List<Task> saved = saveCaptor.getAllValues();
         assertThat(saved).hasSize(2);
 
-        Task parent = saved.stream().filter(t -> t.getName().equals("Parent")).findFirst().orElseThrow();
-        Task child = saved.stream().filter(t -> t.getName().equals("Child")).findFirst().orElseThrow();
+        Task parent = saved.get(0);
+        Task child = saved.get(1);
 
+        assertThat(parent.getName()).isEqualTo("Parent");
         assertThat(child.getParent()).isSameAs(parent);
+        assertThat(parent.getPath()).isEqualTo("/");
+        assertThat(child.getPath()).isEqualTo("/1/");
+    }
+
+    // 실제로 보내는 JDBC 배치/문 수는 TaskBatchInsertSqlTest 에서 검증
+    @DisplayName("대량 AI WBS도 부모 -> 자식 순서로 영속화한 뒤 마지막에 flush 를 한 번만 호출한다.")
+    @ParameterizedTest(name = "{0}개 작업")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    void AI_WBS_대량_저장_배치(int taskCount) {
+        // given: 5개 자식을 가지는 트리를 자식 -> 부모 역순으로 전달
+        Project project = Project.builder()
+                .projectName("proj")
+                .projectType("type")
+                .teamSize(3)
+                .expectedDurationMonths(1)
+                .build();
+        ReflectionTestUtils.setField(project, "id", 1L);
+
+        List<AiWbsResponseDto.TaskDto> dtos = new ArrayList<>();
+        for (int i = taskCount; i >= 1; i--) {
+            String parentId = (i == 1) ? null : String.valueOf(i / 5);
+            dtos.add(new AiWbsResponseDto.TaskDto(String.valueOf(i), parentId, "task-" + i, "Backend",
+                    "2025-01-01", "2025-01-10", 10, 0, "TODO"));
+        }
+        AiWbsResponseDto wbs = new AiWbsResponseDto("proj", taskCount, dtos);
+
+        AtomicLong sequence = new AtomicLong();
+        List<Task> persisted = new ArrayList<>();
+        given(taskRepository.save(any(Task.class))).willAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            // 부모가 먼저 영속화되어 id를 가지고 있어야 한다
+            assertThat(task.getParent() == null || task.getParent().getId() != null).isTrue();
+            ReflectionTestUtils.setField(task, "id", sequence.incrementAndGet());
+            persisted.add(task);
+            return task;
+        });
+
+        // when
+        taskService.saveTasksFromAiResponse(project, wbs);
+
+        // then: 개별 flush/saveAll 없이 마지막에 flush 한 번
+        then(taskRepository).should(Mockito.times(taskCount)).save(any(Task.class));
+        then(taskRepository).should(Mockito.times(1)).flush();
+        assertThat(persisted).allSatisfy(task -> assertThat(task.getPath()).isEqualTo(
+                task.getParent() == null ? "/" : task.getParent().getSubtreePath()));
     }
 
     @DisplayName("AI WBS 응답이 비어 있는 경우, 아무 작업도 저장하지 않는다.")
@@ -158,7 +253,7 @@ public class TaskServiceTest {
         taskService.saveTasksFromAiResponse(project, wbs);
 
         // then
-        then(taskRepository).should(never()).saveAll(anyList());
+        then(taskRepository).should(never()).save(any(Task.class));
         then(projectRepository).should(never()).updateLastModifiedDate(anyLong());
     }
 
@@ -191,6 +286,9 @@ public class TaskServiceTest {
                 .detailedRequirements("reqA")
                 .build();
         ReflectionTestUtils.setField(project, "id", projectId);
+        ReflectionTestUtils.setField(project, "memberCount", 3);
+        ReflectionTestUtils.setField(project, "taskCount", 2);
+        ReflectionTestUtils.setField(project, "doneTaskCount", 1);
 
         ProjectMember member = ProjectMember.builder()
                 .user(user)
@@ -198,32 +296,33 @@ public class TaskServiceTest {
                 .role(ProjectRole.VIEWER)
                 .build();
 
-        Task t1 = Task.builder()
-                .project(project)
-                .name("T1")
-                .status(TaskStatus.TODO)
-                .progress(0)
-                .build();
-        Task t2 = Task.builder()
-                .project(project)
-                .name("T2")
-                .status(TaskStatus.DONE)
-                .progress(100)
-                .build();
+        TaskFlatResponseDto t1 = new TaskFlatRow(1L, null, "T1", null, null,
+                0, TaskStatus.TODO, null, null, "Backend").toResponse();
+        TaskFlatResponseDto t2 = new TaskFlatRow(2L, 1L, "T2", LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-03"),
+                100, TaskStatus.DONE, "a@test.com", "assignee", "Frontend").toResponse();
 
         given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER))
                 .willReturn(member);
-        given(taskRepository.findAllByProjectId(projectId))
+        given(taskTreeCache.getTasks(eq(projectId), anyLong(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<TaskFlatResponseDto>>>getArgument(2).get());
+        given(taskRepository.findFlatByProjectId(projectId))
                 .willReturn(List.of(t1, t2));
 
         // when
         ProjectWithTasksResponseDto result = taskService.getProjectWithTasks(projectId, userId);
 
-        // then
+        // then: 프로젝션 1회, 멤버/작업 수는 프로젝트 카운터 (COUNT 쿼리/엔티티 조회 없음)
         assertThat(result.tasks()).hasSize(2);
+        assertThat(result.memberCount()).isEqualTo(3);
+        assertThat(result.taskCounts().total()).isEqualTo(2);
+        assertThat(result.taskCounts().done()).isEqualTo(1);
+        assertThat(result.tasks().get(0).assigneeName()).isEqualTo("Backend");
+        assertThat(result.tasks().get(1).assigneeName()).isEqualTo("assignee");
+        assertThat(result.tasks().get(1).duration()).isEqualTo(3);
+        then(taskRepository).should(never()).findAllByProjectId(anyLong());
     }
 
-    @DisplayName("작업 생성 후 부모가 존재하면 부모 진행률을 재계산한다.")
+    @DisplayName("작업 생성 후 부모가 존재하면 부모 진행률을 재계산하고, 새 작업과 부모 상태 변화만큼 프로젝트 작업 수를 증감한다.")
     @Test
     void 작업_생성시_부모_진행률_재계산_테스트() {
         // given
@@ -295,8 +394,9 @@ public class TaskServiceTest {
                 .willReturn(assignee);
         given(taskRepository.save(any(Task.class)))
                 .willReturn(savedTask);
-        given(taskRepository.findAllByParentId(parent.getId()))
-                .willReturn(List.of(savedTask));
+        given(projectRepository.findChangeVersionById(projectId)).willReturn(8L);
+        given(taskProgressRollup.rollUpFrom(projectId, parent.getId(), 8L))
+                .willReturn(List.of(new TaskProgressUpdate(parent.getId(), 50, TaskStatus.IN_PROGRESS, 0L, TaskStatus.TODO)));
 
         // when
         TaskFlatResponseDto result = taskService.createTask(projectId, dto, userId);
@@ -304,7 +404,10 @@ public class TaskServiceTest {
         // then
         then(taskRepository).should(atLeastOnce()).save(any(Task.class));
         then(taskRepository).should().flush();
-        assertThat(parent.getProgress()).isEqualTo(50);
+        then(projectRepository).should().updateLastModifiedDate(projectId);
+        then(taskProgressRollup).should().rollUpFrom(projectId, parent.getId(), 8L);
+        // 새 작업 TODO +1, 부모 TODO -> IN_PROGRESS (작업 테이블 재집계 없음)
+        then(projectRepository).should().adjustTaskCounts(projectId, 1, 0, 1, 0);
         assertThat(result.name()).isEqualTo("child");
     }
 
@@ -351,21 +454,7 @@ public class TaskServiceTest {
                 .progress(0)
                 .build();
         ReflectionTestUtils.setField(parent, "id", taskId);
-
-        Task c1 = Task.builder()
-                .project(project)
-                .parent(parent)
-                .name("c1")
-                .status(TaskStatus.IN_PROGRESS)
-                .progress(40)
-                .build();
-        Task c2 = Task.builder()
-                .project(project)
-                .parent(parent)
-                .name("c2")
-                .status(TaskStatus.TODO)
-                .progress(0)
-                .build();
+        parent.assignPath();
 
         UpdateTaskRequestDto dto = new UpdateTaskRequestDto(
                 "parent",
@@ -377,24 +466,32 @@ public class TaskServiceTest {
         );
 
         given(taskValidator.validateAndGetTask(taskId)).willReturn(parent);
-        given(projectMemberValidator.validatePermission(userId, project.getId(), ProjectRole.EDITOR))
-                .willReturn(member);
+        willDoNothing().given(projectMemberValidator).checkPermission(userId, project.getId(), ProjectRole.EDITOR);
         given(taskValidator.validateAndGetAssignee(project, "test@test.com"))
                 .willReturn(user);
-        given(taskRepository.findAllByParentId(parent.getId()))
-                .willReturn(List.of(c1, c2));
+        given(taskRepository.existsByParentId(taskId)).willReturn(true);
+        given(projectRepository.findChangeVersionById(project.getId())).willReturn(4L);
+        given(taskRepository.countStatusesUnder(project.getId(), "/" + taskId + "/")).willReturn(List.of(
+                new Object[]{TaskStatus.TODO, 2L},
+                new Object[]{TaskStatus.IN_PROGRESS, 1L},
+                new Object[]{TaskStatus.DONE, 1L}));
 
         // when
         taskService.updateTask(taskId, dto, userId);
 
-        // then
-        assertThat(c1.getStatus()).isEqualTo(TaskStatus.DONE);
-        assertThat(c1.getProgress()).isEqualTo(100);
-        assertThat(c2.getStatus()).isEqualTo(TaskStatus.DONE);
-        assertThat(c2.getProgress()).isEqualTo(100);
+        // then: 하위 트리 전체를 경로 접두사로 한 번에 완료 처리
+        assertThat(parent.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(parent.getProgress()).isEqualTo(100);
+
+        assertThat(parent.getChangeVersion()).isEqualTo(4L);
 
-        then(taskRepository).should(atLeastOnce()).saveAll(anyList());
+        InOrder inOrder = Mockito.inOrder(taskRepository);
+        inOrder.verify(taskRepository).countStatusesUnder(project.getId(), "/" + taskId + "/");
+        inOrder.verify(taskRepository).markSubtreeDone(project.getId(), "/" + taskId + "/", 4L);
+        then(taskRepository).should(never()).findAllByParentId(anyLong());
         then(projectRepository).should().updateLastModifiedDate(project.getId());
+        // 자신 TODO -> DONE, 하위 TODO 2개/IN_PROGRESS 1개 -> DONE (이미 DONE 인 하위 작업은 변화 없음)
+        then(projectRepository).should().adjustTaskCounts(project.getId(), 0, -3, -1, 4);
     }
 
     @DisplayName("작업 삭제 후, 부모 진행률을 재계산한다.")
@@ -434,6 +531,7 @@ public class TaskServiceTest {
                 .status(TaskStatus.IN_PROGRESS)
                 .build();
         ReflectionTestUtils.setField(parent, "id", 1L);
+        parent.assignPath();
 
         Task task = Task.builder()
                 .project(project)
@@ -443,6 +541,7 @@ public class TaskServiceTest {
                 .status(TaskStatus.TODO)
                 .build();
         ReflectionTestUtils.setField(task, "id", taskId);
+        task.assignPath();
 
         ProjectMember member = ProjectMember.builder()
                 .user(user)
@@ -451,17 +550,268 @@ public class TaskServiceTest {
                 .build();
 
         given(taskValidator.validateAndGetTask(taskId)).willReturn(task);
-        given(projectMemberValidator.validatePermission(userId, project.getId(), ProjectRole.EDITOR))
-                .willReturn(member);
-        given(taskRepository.findAllByParentId(parent.getId()))
-                .willReturn(List.of());
+        willDoNothing().given(projectMemberValidator).checkPermission(userId, project.getId(), ProjectRole.EDITOR);
+        given(projectRepository.findChangeVersionById(project.getId())).willReturn(3L);
+        given(taskRepository.countStatusesInSubtree(project.getId(), taskId, "/1/" + taskId + "/")).willReturn(List.of(
+                new Object[]{TaskStatus.TODO, 1L},
+                new Object[]{TaskStatus.DONE, 2L}));
+        given(taskProgressRollup.rollUpFrom(project.getId(), parent.getId(), 3L))
+                .willReturn(List.of(new TaskProgressUpdate(parent.getId(), 100, TaskStatus.DONE, 0L, TaskStatus.IN_PROGRESS)));
 
         // when
         taskService.deleteTask(taskId, userId);
 
-        // then
-        then(taskRepository).should().delete(task);
-        then(taskRepository).should().flush();
+        // then: 삭제될 작업 상태를 집계하고, 삭제 기록(tombstone)을 먼저 남기고 하위 트리 삭제
+        InOrder inOrder = Mockito.inOrder(taskTombstoneRepository, taskRepository);
+        inOrder.verify(taskRepository).countStatusesInSubtree(project.getId(), taskId, "/1/" + taskId + "/");
+        inOrder.verify(taskTombstoneRepository).insertForSubtree(project.getId(), taskId, "/1/" + taskId + "/", 3L);
+        inOrder.verify(taskRepository).deleteSubtree(project.getId(), taskId, "/1/" + taskId + "/");
+        then(taskProgressRollup).should().rollUpFrom(project.getId(), parent.getId(), 3L);
+        // 삭제 TODO 1개/DONE 2개, 부모 IN_PROGRESS -> DONE
+        then(projectRepository).should().adjustTaskCounts(project.getId(), -3, -1, -1, -1);
         then(projectRepository).should().updateLastModifiedDate(project.getId());
     }
+
+    @DisplayName("하위 트리는 경로 접두사로 한 번에 조회한다.")
+    @Test
+    void 하위_트리_조회() {
+        // given
+        String userId = "uid";
+        Long taskId = 5L;
+
+        User user = User.builder()
+                .email("t")
+                .name("n")
+                .googleId("gid")
+                .build();
+
+        Project project = Project.builder()
+                .owner(user)
+                .projectName("proj")
+                .projectType("type")
+                .teamSize(2)
+                .expectedDurationMonths(2)
+                .build();
+        ReflectionTestUtils.setField(project, "id", 10L);
+
+        Task root = Task.builder()
+                .project(project)
+                .name("root")
+                .status(TaskStatus.TODO)
+                .build();
+        ReflectionTestUtils.setField(root, "id", taskId);
+        root.assignPath();
+
+        Task child = Task.builder()
+                .project(project)
+                .parent(root)
+                .name("child")
+                .status(TaskStatus.TODO)
+                .build();
+        ReflectionTestUtils.setField(child, "id", 6L);
+        child.assignPath();
+
+        given(taskValidator.validateAndGetTask(taskId)).willReturn(root);
+        given(taskRepository.findFlatSubtree(10L, taskId, "/5/"))
+                .willReturn(List.of(TaskFlatResponseDto.from(root), TaskFlatResponseDto.from(child)));
+
+        // when
+        List<TaskFlatResponseDto> result = taskService.getSubtree(taskId, userId);
+
+        // then
+        then(projectMemberValidator).should().checkPermission(userId, 10L, ProjectRole.VIEWER);
+        assertThat(result).extracting(TaskFlatResponseDto::id).containsExactly(5L, 6L);
+        assertThat(result.get(1).parent()).isEqualTo(5L);
+    }
+
+    @DisplayName("경로가 아직 채워지지 않은 부모 아래에 만든 작업은 부모 체인에서 경로를 계산한다.")
+    @Test
+    void 경로_없는_부모_아래_작업_경로() {
+        // given: 마이그레이션 이전 작업 (path = null)
+        Task root = Task.builder().name("root").status(TaskStatus.TODO).build();
+        ReflectionTestUtils.setField(root, "id", 1L);
+        Task parent = Task.builder().parent(root).name("parent").status(TaskStatus.TODO).build();
+        ReflectionTestUtils.setField(parent, "id", 5L);
+
+        Task child = Task.builder().parent(parent).name("child").status(TaskStatus.TODO).build();
+
+        // when
+        child.assignPath();
+
+        // then
+        assertThat(child.getPath()).isEqualTo("/1/5/");
+        assertThatThrownBy(child::getSubtreePath).isInstanceOf(IllegalStateException.class); // id 없음
+    }
+
+    @DisplayName("작업 내보내기는 권한 검증 후 DB 커서의 각 행을 NDJSON 한 줄로 스트리밍한다.")
+    @Test
+    void 작업_NDJSON_스트리밍_내보내기() throws Exception {
+        // given
+        Long projectId = 10L;
+        String userId = "gid";
+
+        TaskFlatResponseDto root = new TaskFlatRow(1L, null, "root",
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-10"),
+                50, TaskStatus.IN_PROGRESS, null, null, "BE").toResponse();
+        TaskFlatResponseDto child = new TaskFlatRow(2L, 1L, "child",
+                LocalDate.parse("2025-01-02"), LocalDate.parse("2025-01-03"),
+                100, TaskStatus.DONE, "a@test.com", "assignee", "BE").toResponse();
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<TaskFlatResponseDto> consumer = invocation.getArgument(1);
+            consumer.accept(root);
+            consumer.accept(child);
+            return null;
+        }).when(taskJdbcRepository).streamFlatTasks(any(), any());
+
+        // when
+        StreamingResponseBody body = taskService.exportTasksAsNdjson(projectId, userId);
+
+        // then - 권한 검증은 본문 전송 전에 끝나고, DB 조회는 아직 일어나지 않는다
+        then(projectMemberValidator).should().checkPermission(userId, projectId, ProjectRole.VIEWER);
+        then(taskJdbcRepository).should(never()).streamFlatTasks(any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], TaskFlatResponseDto.class).id()).isEqualTo(1L);
+        TaskFlatResponseDto exportedChild = objectMapper.readValue(lines[1], TaskFlatResponseDto.class);
+        assertThat(exportedChild.parent()).isEqualTo(1L);
+        assertThat(exportedChild.assigneeEmail()).isEqualTo("a@test.com");
+    }
+
+    @DisplayName("기간 조회는 겹치는 작업과 그 조상 작업만 한 번에 조회한다.")
+    @Test
+    void 간트_기간_조회_조상_포함() {
+        // given
+        Long projectId = 10L;
+        String userId = "gid";
+        LocalDate from = LocalDate.parse("2025-03-01");
+        LocalDate to = LocalDate.parse("2025-03-14");
+
+        // 3번(/1/2/)과 4번(/1/)이 기간에 걸침 -> 조상 1, 2도 함께 조회
+        given(taskRepository.findIdAndPathOverlapping(projectId, from, to))
+                .willReturn(List.of(new Object[]{3L, "/1/2/"}, new Object[]{4L, "/1/"}));
+        given(taskRepository.findFlatByIds(any(), any())).willReturn(List.of());
+
+        // when
+        taskService.getTasksInWindow(projectId, userId, "2025-03-01", "2025-03-14");
+
+        // then
+        then(projectMemberValidator).should().checkPermission(userId, projectId, ProjectRole.VIEWER);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        then(taskRepository).should().findFlatByIds(eq(projectId), idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        then(taskRepository).should(never()).findFlatByProjectId(anyLong());
+    }
+
+    @DisplayName("기간 조회 시 시작일이 종료일보다 늦으면 예외가 발생한다.")
+    @Test
+    void 간트_기간_조회_잘못된_기간() {
+        assertThatThrownBy(() -> taskService.getTasksInWindow(10L, "gid", "2025-03-14", "2025-03-01"))
+                .isInstanceOf(BusinessException.class);
+        then(taskRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("델타 조회는 since 이후 변경된 작업과 삭제 id만 반환하고, 최신이면 조회하지 않는다.")
+    @Test
+    void 델타_동기화_조회() {
+        // given
+        Long projectId = 10L;
+        String userId = "gid";
+
+        User user = User.builder()
+                .email("test@test.com")
+                .name("user")
+                .googleId(userId)
+                .build();
+
+        Project project = Project.builder()
+                .owner(user)
+                .projectName("proj")
+                .projectType("type")
+                .teamSize(2)
+                .expectedDurationMonths(2)
+                .build();
+        ReflectionTestUtils.setField(project, "id", projectId);
+        ReflectionTestUtils.setField(project, "changeVersion", 5L);
+
+        ProjectMember member = ProjectMember.builder()
+                .user(user)
+                .project(project)
+                .role(ProjectRole.VIEWER)
+                .build();
+
+        TaskFlatResponseDto changed = new TaskFlatRow(2L, 1L, "changed",
+                null, null, 10, TaskStatus.IN_PROGRESS, null, null, null).toResponse();
+
+        given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER))
+                .willReturn(member);
+        given(taskRepository.findFlatChangedSince(projectId, 3L)).willReturn(List.of(changed));
+        given(taskTombstoneRepository.findTaskIdsDeletedSince(projectId, 3L)).willReturn(List.of(7L, 8L));
+
+        // when
+        TaskDeltaResponseDto delta = taskService.getTaskChangesSince(projectId, 3L, userId);
+        TaskDeltaResponseDto upToDate = taskService.getTaskChangesSince(projectId, 5L, userId);
+
+        // then
+        assertThat(delta.version()).isEqualTo(5L);
+        assertThat(delta.upserted()).containsExactly(changed);
+        assertThat(delta.deletedIds()).containsExactly(7L, 8L);
+
+        assertThat(upToDate.upserted()).isEmpty();
+        assertThat(upToDate.deletedIds()).isEmpty();
+        then(taskRepository).should(never()).findFlatChangedSince(projectId, 5L);
+        then(taskRepository).should(never()).findFlatByProjectId(anyLong());
+    }
+
+    @DisplayName("since 가 삭제 기록 정리 구간(horizon)보다 오래되면 불완전한 델타 대신 전체 재조회를 요청한다.")
+    @Test
+    void 델타_동기화_보존기간_지나면_전체_재조회() {
+        // given: 버전 3까지의 삭제 기록은 정리됨
+        Long projectId = 10L;
+        String userId = "gid";
+
+        User user = User.builder()
+                .email("test@test.com")
+                .name("user")
+                .googleId(userId)
+                .build();
+
+        Project project = Project.builder()
+                .owner(user)
+                .projectName("proj")
+                .build();
+        ReflectionTestUtils.setField(project, "id", projectId);
+        ReflectionTestUtils.setField(project, "changeVersion", 5L);
+        ReflectionTestUtils.setField(project, "tombstoneHorizon", 3L);
+
+        ProjectMember member = ProjectMember.builder()
+                .user(user)
+                .project(project)
+                .role(ProjectRole.VIEWER)
+                .build();
+
+        given(projectMemberValidator.validatePermission(userId, projectId, ProjectRole.VIEWER))
+                .willReturn(member);
+        given(taskRepository.findFlatChangedSince(projectId, 3L)).willReturn(List.of());
+        given(taskTombstoneRepository.findTaskIdsDeletedSince(projectId, 3L)).willReturn(List.of());
+
+        // when
+        TaskDeltaResponseDto stale = taskService.getTaskChangesSince(projectId, 2L, userId);
+        TaskDeltaResponseDto atHorizon = taskService.getTaskChangesSince(projectId, 3L, userId);
+
+        // then
+        assertThat(stale.fullResyncRequired()).isTrue();
+        assertThat(stale.version()).isEqualTo(5L);
+        assertThat(stale.upserted()).isEmpty();
+        assertThat(stale.deletedIds()).isEmpty();
+        then(taskRepository).should(never()).findFlatChangedSince(projectId, 2L);
+        then(taskTombstoneRepository).should(never()).findTaskIdsDeletedSince(projectId, 2L);
+
+        assertThat(atHorizon.fullResyncRequired()).isFalse();
+    }
 }
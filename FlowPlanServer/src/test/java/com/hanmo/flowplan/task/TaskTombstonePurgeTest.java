@@ -0,0 +1,81 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hanmo.flowplan.project.domain.Project;
+import com.hanmo.flowplan.task.domain.TaskTombstoneRepository;
+import com.hanmo.flowplan.task.infrastructure.TaskTombstoneJdbcRepository;
+import com.hanmo.flowplan.user.domain.User;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(TaskTombstoneJdbcRepository.class)
+class TaskTombstonePurgeTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskTombstoneJdbcRepository taskTombstoneJdbcRepository;
+
+    @Autowired
+    TaskTombstoneRepository taskTombstoneRepository;
+
+    @DisplayName("보존 기간이 지난 삭제 기록만 지우고, 지운 기록의 최대 변경 버전을 프로젝트 horizon 으로 남긴다.")
+    @Test
+    void 보존기간_지난_기록_정리() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long projectA = persistProject("a");
+        Long projectB = persistProject("b");
+        insertTombstone(projectA, 101L, 2L, now.minusDays(40));
+        insertTombstone(projectA, 102L, 4L, now.minusDays(35));
+        insertTombstone(projectB, 201L, 7L, now.minusDays(31));
+        insertTombstone(projectA, 103L, 9L, now.minusDays(1));
+
+        // when: 한 번에 2개씩
+        LocalDateTime cutoff = now.minusDays(30);
+        int first = taskTombstoneJdbcRepository.purgeBefore(cutoff, 2);
+        int second = taskTombstoneJdbcRepository.purgeBefore(cutoff, 2);
+        int third = taskTombstoneJdbcRepository.purgeBefore(cutoff, 2);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+
+        assertThat(taskTombstoneRepository.findTaskIdsDeletedSince(projectA, 0L)).containsExactly(103L);
+        assertThat(taskTombstoneRepository.findTaskIdsDeletedSince(projectB, 0L)).isEmpty();
+        assertThat(horizonOf(projectA)).isEqualTo(4L);
+        assertThat(horizonOf(projectB)).isEqualTo(7L);
+    }
+
+    private Long persistProject(String name) {
+        User owner = User.builder().email(name + "@test.com").name(name).googleId("google-" + name).build();
+        entityManager.persist(owner);
+        Project project = Project.builder().owner(owner).projectName(name).build();
+        entityManager.persist(project);
+        entityManager.flush();
+        return project.getId();
+    }
+
+    private void insertTombstone(Long projectId, Long taskId, long changeVersion, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO task_tombstones (project_id, task_id, change_version, deleted_at) VALUES (?, ?, ?, ?)",
+                projectId, taskId, changeVersion, Timestamp.valueOf(deletedAt));
+    }
+
+    private long horizonOf(Long projectId) {
+        return jdbcTemplate.queryForObject("SELECT tombstone_horizon FROM projects WHERE id = ?", Long.class, projectId);
+    }
+}
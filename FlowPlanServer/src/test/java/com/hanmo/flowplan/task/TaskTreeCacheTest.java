@@ -0,0 +1,100 @@
+package com.hanmo.flowplan.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hanmo.flowplan.task.application.TaskTreeCache;
+import com.hanmo.flowplan.task.domain.TaskStatus;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatResponseDto;
+import com.hanmo.flowplan.task.presentation.dto.TaskFlatRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TaskTreeCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    TaskTreeCache taskTreeCache;
+
+    AtomicInteger loadCount;
+
+    List<TaskFlatResponseDto> tasks = List.of(
+            new TaskFlatRow(1L, null, "root", LocalDate.parse("2025-01-01"), LocalDate.parse("2025-01-10"),
+                    50, TaskStatus.IN_PROGRESS, null, null, "Backend").toResponse(),
+            new TaskFlatRow(2L, 1L, "child", null, null,
+                    100, TaskStatus.DONE, "a@test.com", "assignee", null).toResponse()
+    );
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskTreeCache = new TaskTreeCache(3, meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<List<TaskFlatResponseDto>> loader(List<TaskFlatResponseDto> result) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return result;
+        };
+    }
+
+    @DisplayName("같은 버전이면 DB를 다시 조회하지 않고 스냅샷에서 동일한 DTO를 복원한다.")
+    @Test
+    void 같은_버전은_캐시_적중() {
+        // when
+        List<TaskFlatResponseDto> first = taskTreeCache.getTasks(10L, 1L, loader(tasks));
+        List<TaskFlatResponseDto> second = taskTreeCache.getTasks(10L, 1L, loader(tasks));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(first).isEqualTo(tasks);
+        assertThat(second).isEqualTo(tasks);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("프로젝트 버전이 바뀌면 기존 스냅샷을 버리고 다시 적재한다.")
+    @Test
+    void 버전이_바뀌면_다시_적재() {
+        // when
+        taskTreeCache.getTasks(10L, 1L, loader(tasks));
+        List<TaskFlatResponseDto> reloaded = taskTreeCache.getTasks(10L, 2L, loader(tasks.subList(0, 1)));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(reloaded).hasSize(1);
+    }
+
+    @DisplayName("트랜잭션 밖에서 무효화하면 즉시 제거된다.")
+    @Test
+    void 무효화() {
+        // given
+        taskTreeCache.getTasks(10L, 1L, loader(tasks));
+
+        // when
+        taskTreeCache.evictAfterCommit(10L);
+        taskTreeCache.getTasks(10L, 1L, loader(tasks));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("전체 작업 수 한도를 넘으면 항목이 제거(eviction)된다.")
+    @Test
+    void 크기_제한_초과시_제거() {
+        // when: 한도 3 (작업 2개 + 1) 인 캐시에 두 프로젝트 적재
+        taskTreeCache.getTasks(10L, 1L, loader(tasks));
+        taskTreeCache.getTasks(20L, 1L, loader(tasks));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        await().untilAsserted(() ->
+                assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1.0));
+    }
+}